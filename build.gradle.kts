@@ -85,4 +85,37 @@ dependencies {
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+// ✅ Conversion hors ligne des PNG en KTX2 (mipmaps + compression Basis) : ./gradlew bakeTextures [-Pcompress=none|uastc|etc1s]
+val texturesDir = "src/main/resources/textures"
+
+tasks.register<JavaExec>("bakeTextures") {
+    group = "assets"
+    description = "Convertit $texturesDir/*.png en .ktx2 avec mipmaps"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("Tools.TextureBaker")
+    args(texturesDir, texturesDir, "--compress=${project.findProperty("compress") ?: "uastc"}")
+    inputs.files(fileTree(texturesDir) { include("*.png") })
+    outputs.files(fileTree(texturesDir) { include("*.ktx2") })
+}
+
+// ✅ Archive unique des ressources, projetée en mémoire au lancement : ./gradlew packAssets
+tasks.register<JavaExec>("packAssets") {
+    group = "assets"
+    description = "Regroupe src/main/resources dans build/assets.pak"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("Tools.AssetPacker")
+    args("src/main/resources", "build/assets.pak")
+    mustRunAfter("bakeTextures")
+    inputs.dir("src/main/resources")
+    outputs.file("build/assets.pak")
+}
+
+// ✅ Banc d'essai de l'index spatial (parcours linéaire contre grille) : ./gradlew benchSpatialIndex
+tasks.register<JavaExec>("benchSpatialIndex") {
+    group = "benchmark"
+    description = "Compare findPlatformBelow linéaire et SpatialIndex à 100, 10k et 1M plateformes"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("Tools.SpatialIndexBenchmark")
+}
@@ -0,0 +1,160 @@
+package Core;
+
+import Core.Logging.Category;
+import Core.Logging.Log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Archive de ressources produite par {@code Tools.AssetPacker} (tâche Gradle {@code packAssets}),
+ * projetée en mémoire d'un bloc : un seul fichier ouvert au démarrage, et une recherche
+ * par nom en O(1) dans une table de hachage en tête de fichier, sans accès disque.
+ * <p>
+ * Format (little-endian) :
+ * <pre>
+ * en-tête  : magic "PAK1", version, nombre de cases (puissance de 2), nombre d'entrées
+ * cases    : hash FNV-1a 64 bits du nom (0 = vide), offset (long), taille (int), réservé (int)
+ * données  : contenus des fichiers, alignés sur 16 octets
+ * </pre>
+ * Les noms sont relatifs au dossier des ressources ({@code textures/platform.png}).
+ * Sans archive montée, les noms sont lus directement dans {@link #SOURCE_ROOT}.
+ */
+public final class AssetArchive {
+
+    public static final int MAGIC = 0x314B4150; // "PAK1"
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+    public static final int SLOT_BYTES = 24;
+    public static final int ALIGNMENT = 16;
+
+    public static final String SOURCE_ROOT = "src/main/resources/";
+    public static final Path DEFAULT_PATH = Path.of("build/assets.pak");
+
+    private static volatile AssetArchive mounted;
+    private static volatile boolean defaultTried = false;
+
+    private final Path path;
+    private final MappedByteBuffer data;
+    private final int mask;
+    private final int entryCount;
+
+    private AssetArchive(Path path, MappedByteBuffer data) throws IOException {
+        this.path = path;
+        this.data = data;
+        data.order(ByteOrder.LITTLE_ENDIAN);
+        if (data.getInt(0) != MAGIC || data.getInt(4) != VERSION) {
+            throw new IOException("Archive invalide : " + path);
+        }
+        int slotCount = data.getInt(8);
+        if (Integer.bitCount(slotCount) != 1) {
+            throw new IOException("Table d'index invalide : " + path);
+        }
+        this.mask = slotCount - 1;
+        this.entryCount = data.getInt(12);
+    }
+
+    public static AssetArchive open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // La projection reste valide après la fermeture du canal
+            return new AssetArchive(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    // ✅ FNV-1a 64 bits sur les octets UTF-8 du nom ; 0 est réservé aux cases vides
+    public static long hash(String name) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xFF);
+            h *= 0x100000001b3L;
+        }
+        return h == 0 ? 1 : h;
+    }
+
+    // ✅ Contenu du fichier (vue sur la projection, sans copie), ou null s'il n'est pas dans l'archive
+    public ByteBuffer find(String name) {
+        int slot = findSlot(name);
+        if (slot < 0) return null;
+        int base = HEADER_BYTES + slot * SLOT_BYTES;
+        long offset = data.getLong(base + 8);
+        int length = data.getInt(base + 16);
+        return data.slice((int) offset, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public boolean contains(String name) {
+        return findSlot(name) >= 0;
+    }
+
+    // Sondage linéaire ; deux noms de même hash sont refusés à l'empaquetage
+    private int findSlot(String name) {
+        long h = hash(name);
+        for (int slot = (int) h & mask, probes = 0; probes <= mask; slot = (slot + 1) & mask, probes++) {
+            long stored = data.getLong(HEADER_BYTES + slot * SLOT_BYTES);
+            if (stored == h) return slot;
+            if (stored == 0) return -1;
+        }
+        return -1;
+    }
+
+    public int getEntryCount() { return entryCount; }
+    public long getByteSize() { return data.capacity(); }
+    public Path getPath() { return path; }
+
+    // ==================== ARCHIVE MONTÉE ====================
+
+    public static void mount(Path path) {
+        try {
+            mounted = open(path);
+            Log.atInfo(Category.RESOURCES).arg(path).arg(mounted.entryCount).arg(mounted.getByteSize() / 1024.0)
+                    .log("📦 Archive %s montée : %d fichiers, %.1f Ko");
+        } catch (IOException e) {
+            Log.atError(Category.RESOURCES).arg(path).arg(e.getMessage()).log("❌ Archive %s illisible : %s");
+        }
+        defaultTried = true;
+    }
+
+    // Archive explicite (--assets=), sinon celle du build si elle existe, sinon aucune
+    public static AssetArchive mounted() {
+        if (!defaultTried) {
+            synchronized (AssetArchive.class) {
+                if (!defaultTried) {
+                    if (Files.isRegularFile(DEFAULT_PATH)) mount(DEFAULT_PATH);
+                    defaultTried = true;
+                }
+            }
+        }
+        return mounted;
+    }
+
+    // ✅ Nom de ressource : chemin relatif au dossier des ressources, séparateurs '/'
+    public static String nameOf(String path) {
+        String name = path.replace('\\', '/');
+        return name.startsWith(SOURCE_ROOT) ? name.substring(SOURCE_ROOT.length()) : name;
+    }
+
+    public static boolean exists(String path) {
+        AssetArchive archive = mounted();
+        if (archive != null) return archive.contains(nameOf(path));
+        return Files.isRegularFile(Path.of(fileOf(path)));
+    }
+
+    // Contenu projeté, ou null : à lire alors sur disque via fileOf()
+    public static ByteBuffer read(String path) {
+        AssetArchive archive = mounted();
+        return archive != null ? archive.find(nameOf(path)) : null;
+    }
+
+    // Chemin disque : les noms relatifs sont pris dans le dossier des ressources
+    public static String fileOf(String path) {
+        String normalized = path.replace('\\', '/');
+        if (normalized.startsWith(SOURCE_ROOT) || Path.of(path).isAbsolute()) return path;
+        return SOURCE_ROOT + normalized;
+    }
+}
@@ -0,0 +1,146 @@
+package Core;
+
+import Core.Entities.Texture;
+import Core.Logging.Category;
+import Core.Logging.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chargement de textures sans bloquer la frame : le PNG (ou le .ktx2 précalculé) est lu sur un pool
+ * de threads "TextureDecoder", puis envoyé au GPU (via PBO) sur le thread GL par une tâche
+ * {@link GLTaskQueue} de priorité NORMAL, dans la limite du budget de temps de la frame.
+ * <p>
+ * {@link #load(String, UploadListener)} rend immédiatement une texture de remplacement
+ * (blanche) dont l'identifiant est remplacé une fois l'envoi terminé.
+ */
+public final class AsyncTextureLoader {
+
+    // Appelé sur le thread GL une fois la texture sur le GPU
+    public interface UploadListener {
+        void uploaded(Texture texture, long bytes);
+    }
+
+    private record Decoded(Texture texture, UploadableImage image, UploadListener listener) {}
+
+    private static final ExecutorService decoders = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 2), new DecoderThreadFactory());
+
+    private static final Queue<Decoded> decoded = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger decoding = new AtomicInteger();
+
+    private static int placeholderId = -1; // Thread GL
+    private static long uploadedCount = 0;
+
+    private AsyncTextureLoader() {}
+
+    // ✅ Thread GL : texture de remplacement tout de suite, image réelle dans une frame suivante
+    public static Texture load(String path, UploadListener listener) {
+        ILoader loader = Backend.getLoader();
+        if (Backend.isHeadless()) {
+            try {
+                Texture texture = new Texture(loader.loadTexture(path));
+                if (listener != null) listener.uploaded(texture, 0);
+                return texture;
+            } catch (Exception e) {
+                return new Texture(loader.createDefaultTexture());
+            }
+        }
+
+        if (placeholderId < 0) {
+            placeholderId = loader.createDefaultTexture();
+        }
+        Texture texture = Texture.placeholder(placeholderId);
+
+        decoding.incrementAndGet();
+        decoders.execute(() -> {
+            try {
+                decoded.offer(new Decoded(texture, UploadableImage.read(path), listener));
+                GLTaskQueue.submit(GLTaskQueue.Priority.NORMAL, AsyncTextureLoader::uploadNext);
+            } catch (Exception e) {
+                Log.atWarn(Category.RESOURCES).arg(path).arg(e.getMessage())
+                        .log("⚠️ Texture %s non décodée (%s), image de remplacement conservée");
+            } finally {
+                decoding.decrementAndGet();
+            }
+        });
+        return texture;
+    }
+
+    // ✅ Tâche GL (une par image décodée) : les images restent dans la file pour être libérées à la fermeture
+    private static void uploadNext() {
+        Decoded next = decoded.poll();
+        if (next != null) {
+            upload(ObjectLoader.getInstance(), next);
+        }
+    }
+
+    private static void upload(ObjectLoader loader, Decoded item) {
+        try {
+            Texture texture = item.texture();
+            if (texture.isReleased()) return; // Plus personne n'en veut
+
+            int textureId = item.image().upload(loader);
+            texture.finishLoading(textureId);
+            uploadedCount++;
+            if (item.listener() != null) {
+                item.listener().uploaded(texture, item.image().getByteSize());
+            }
+        } finally {
+            item.image().free();
+        }
+    }
+
+    // ✅ Décodage parallèle bloquant (chargements groupés au démarrage) ; null pour une image illisible
+    public static DecodedImage[] decodeAll(String[] paths) {
+        List<Future<DecodedImage>> futures = new ArrayList<>(paths.length);
+        for (String path : paths) {
+            futures.add(decoders.submit(() -> DecodedImage.decode(path)));
+        }
+
+        DecodedImage[] images = new DecodedImage[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            try {
+                images[i] = futures.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                images[i] = null;
+            }
+        }
+        return images;
+    }
+
+    // ✅ Statistiques
+    public static int getDecodingCount() { return decoding.get(); }
+    public static int getPendingUploadCount() { return decoded.size(); }
+    public static long getUploadedCount() { return uploadedCount; }
+
+    // Images décodées mais jamais envoyées : mémoire native à rendre
+    public static void shutdown() {
+        decoders.shutdownNow();
+        Decoded item;
+        while ((item = decoded.poll()) != null) {
+            item.image().free();
+        }
+    }
+
+    private static final class DecoderThreadFactory implements java.util.concurrent.ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "TextureDecoder-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package Core;
+
+import Core.Headless.HeadlessLoader;
+import Core.Headless.HeadlessRenderer;
+
+/**
+ * Sélection du backend de rendu et de chargement.
+ * En mode headless aucune fenêtre ni contexte OpenGL n'est créé :
+ * le chargeur et le renderer sont remplacés par des versions sans GL.
+ */
+public final class Backend {
+
+    private static volatile boolean headless = false;
+
+    private Backend() {}
+
+    public static void setHeadless(boolean value) {
+        headless = value;
+    }
+
+    public static boolean isHeadless() {
+        return headless;
+    }
+
+    public static ILoader getLoader() {
+        return headless ? HeadlessLoader.getInstance() : ObjectLoader.getInstance();
+    }
+
+    public static IRenderer createRenderer() {
+        return headless ? new HeadlessRenderer() : new RenderManager();
+    }
+}
@@ -0,0 +1,60 @@
+package Core;
+
+import Core.Entities.Camera;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL31;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Uniform buffer des matrices caméra, partagé par tous les programmes qui
+ * déclarent le bloc {@code Camera} :
+ * <pre>
+ * layout (std140) uniform Camera {
+ *     mat4 projectionMatrix;
+ *     mat4 viewMatrix;
+ * };
+ * </pre>
+ * Écrit une seule fois par frame, lié en permanence au point {@link #BINDING}.
+ */
+public class CameraBuffer {
+
+    public static final String BLOCK_NAME = "Camera";
+    public static final int BINDING = 0;
+
+    private static final int FLOATS = 2 * 16; // projection puis vue, std140
+
+    private int ubo;
+    private FloatBuffer data;
+
+    public void init() {
+        data = MemoryUtil.memAllocFloat(FLOATS);
+
+        ubo = GL15.glGenBuffers();
+        GL15.glBindBuffer(GL31.GL_UNIFORM_BUFFER, ubo);
+        GL15.glBufferData(GL31.GL_UNIFORM_BUFFER, (long) FLOATS * Float.BYTES, GL15.GL_DYNAMIC_DRAW);
+        GpuResources.created(GpuResources.Kind.BUFFER, (long) FLOATS * Float.BYTES);
+        GL15.glBindBuffer(GL31.GL_UNIFORM_BUFFER, 0);
+
+        GL30.glBindBufferBase(GL31.GL_UNIFORM_BUFFER, BINDING, ubo);
+    }
+
+    // ✅ Une écriture par frame, sans allocation
+    public void update(Camera camera) {
+        camera.writeMatrices(data);
+
+        GL15.glBindBuffer(GL31.GL_UNIFORM_BUFFER, ubo);
+        GL15.glBufferSubData(GL31.GL_UNIFORM_BUFFER, 0, data);
+        GL15.glBindBuffer(GL31.GL_UNIFORM_BUFFER, 0);
+    }
+
+    public void cleanup() {
+        GpuResources.deleteLater(GpuResources.Kind.BUFFER, ubo, (long) FLOATS * Float.BYTES);
+        if (data != null) {
+            MemoryUtil.memFree(data);
+            data = null;
+        }
+    }
+}
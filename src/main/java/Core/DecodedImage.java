@@ -0,0 +1,58 @@
+package Core;
+
+import org.lwjgl.stb.STBImage;
+import org.lwjgl.system.MemoryStack;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Image RGBA décodée en mémoire native, prête à être envoyée au GPU.
+ * Le décodage n'utilise pas OpenGL : il peut tourner sur n'importe quel thread.
+ */
+public final class DecodedImage implements UploadableImage {
+
+    private final ByteBuffer pixels;
+    private final int width;
+    private final int height;
+
+    private DecodedImage(ByteBuffer pixels, int width, int height) {
+        this.pixels = pixels;
+        this.width = width;
+        this.height = height;
+    }
+
+    public static DecodedImage decode(String filename) throws Exception {
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer w = stack.mallocInt(1);
+            IntBuffer h = stack.mallocInt(1);
+            IntBuffer comp = stack.mallocInt(1);
+
+            // ✅ Depuis l'archive projetée si elle contient le fichier, sinon depuis le disque
+            ByteBuffer packed = AssetArchive.read(filename);
+            ByteBuffer buffer = packed != null
+                    ? STBImage.stbi_load_from_memory(packed, w, h, comp, 4)
+                    : STBImage.stbi_load(AssetArchive.fileOf(filename), w, h, comp, 4);
+            if (buffer == null) {
+                throw new Exception("Could not load file " + filename + " " + STBImage.stbi_failure_reason());
+            }
+            return new DecodedImage(buffer, w.get(0), h.get(0));
+        }
+    }
+
+    public ByteBuffer getPixels() { return pixels; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    @Override
+    public long getByteSize() { return (long) width * height * 4; }
+
+    @Override
+    public int upload(ObjectLoader loader) {
+        return loader.uploadTexture(this);
+    }
+
+    @Override
+    public void free() {
+        STBImage.stbi_image_free(pixels);
+    }
+}
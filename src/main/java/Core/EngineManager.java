@@ -1,14 +1,21 @@
 package Core;
 
-import Core.Entities.Camera;
+import Core.Logging.Category;
+import Core.Logging.Log;
+import Core.Metrics.FrameProfiler;
+import Core.Metrics.FrameProfiler.Phase;
+import Core.Metrics.RenderStats;
 import Core.World.PlatformManager;
 import Laucher.Main;
-import Laucher.TestGame;
 import Render.Window;
 import org.lwjgl.glfw.GLFW;
 import org.lwjgl.glfw.GLFWErrorCallback;
 import org.lwjgl.opengl.GL11;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -17,9 +24,14 @@ public class EngineManager {
 
     public static final long NANOSECOND = 1000000000L;
     public static final float FRAMERATE = 60.0f;
+    // ✅ Pas fixe de simulation (secondes), indépendant de la fréquence de rendu
+    public static final float TIME_STEP = 1.0f / FRAMERATE;
 
     private static int fps;
-    private static final float frametime = 1.0f / FRAMERATE;
+    private static final float frametime = TIME_STEP;
+
+    // Fraction du pas suivant déjà écoulée, pour interpoler le rendu (0..1)
+    private static volatile float alpha;
 
     private boolean isRunning;
 
@@ -27,12 +39,36 @@ public class EngineManager {
     private GLFWErrorCallback errorCallback;
     private Ilogic gameLogic, background;
     private static PlatformManager platforms; // ✅ Changé en PlatformManager
-    Camera camera;
 
     private ThreadManager threadManager;
 
+    // Ticks de simulation en cours sur le thread GameLogic
+    private Future<?> pendingUpdate;
+    private int pendingSteps;
+    private final Runnable stepTask = this::runSteps;
+
+    // ✅ Garde-fou contre la spirale de la mort : pas maximum par frame
+    private int maxStepsPerFrame = 5;
+    // ✅ Cadence de la boucle de rendu (sommeil + attente active), réglable à chaud
+    private final FramePacer framePacer = new FramePacer(FRAMERATE, FramePacer.Mode.HYBRID);
+    private boolean pacingKeyDown = false;
+
+    // ✅ Histogrammes par phase : F2 affiche, écrits dans ce fichier à la fermeture
+    private Path statsFile = Path.of("frame_stats.txt");
+    private boolean statsKeyDown = false;
+
+    // Mode headless : nombre de ticks à simuler (0 = illimité)
+    private long headlessTicks = 0;
+
     private void Init() throws Exception {
-        GLFW.glfwSetErrorCallback(errorCallback = GLFWErrorCallback.createPrint(System.err));
+        if (Backend.isHeadless()) {
+            initHeadless();
+            return;
+        }
+
+        GLFW.glfwSetErrorCallback(errorCallback = GLFWErrorCallback.create((error, description) ->
+                Log.atError(Category.RENDER).arg(error).arg(GLFWErrorCallback.getDescription(description))
+                        .log("❌ Erreur GLFW %d : %s")));
         window = Main.getWindow();
         gameLogic = Main.getGame();
         background = Main.getBackground();
@@ -42,16 +78,28 @@ public class EngineManager {
 
         // ✅ Ordre d'initialisation corrigé
         background.inits();
-        gameLogic.inits();                    // TestGame en premier (crée le renderer)
-        platforms = new PlatformManager(TestGame.getRenderer()); // Puis PlatformManager
-        platforms.inits();
+        gameLogic.inits();                    // TestGame crée le renderer et ses plateformes
+        platforms = Main.getGame().getPlatforms();
 
         // Configuration OpenGL
-        GL11.glEnable(GL11.GL_DEPTH_TEST);
+        GLState.enable(GL11.GL_DEPTH_TEST);
         GL11.glDepthFunc(GL11.GL_LEQUAL);
         GL11.glClearColor(0.0f, 0.0f, 0.0f, 1.0f);
 
-        System.out.println("✅ Depth test activé: " + GL11.glIsEnabled(GL11.GL_DEPTH_TEST));
+        Log.atInfo(Category.RENDER).arg(GL11.glIsEnabled(GL11.GL_DEPTH_TEST)).log("✅ Depth test activé: %b");
+    }
+
+    // ✅ Initialisation sans fenêtre ni contexte OpenGL
+    private void initHeadless() throws Exception {
+        gameLogic = Main.getGame();
+        background = Main.getBackground();
+
+        threadManager = new ThreadManager();
+
+        gameLogic.inits();
+        platforms = Main.getGame().getPlatforms();
+
+        Log.atInfo(Category.ENGINE).log("✅ Mode headless initialisé (aucune fenêtre)");
     }
 
     public void start() throws Exception {
@@ -59,7 +107,15 @@ public class EngineManager {
 
         if(isRunning) return;
 
-        run();
+        if (Backend.isHeadless()) {
+            runHeadless();
+        } else {
+            run();
+        }
+    }
+
+    public void setHeadlessTicks(long ticks) {
+        this.headlessTicks = ticks;
     }
 
     public void run() {
@@ -70,7 +126,7 @@ public class EngineManager {
         double unprocessedTime = 0;
 
         while(isRunning){
-            boolean render = false;
+            long frameStart = FrameProfiler.begin();
             long startTime = System.nanoTime();
             long passedTime = startTime - lastTime;
             lastTime = startTime;
@@ -78,58 +134,177 @@ public class EngineManager {
             unprocessedTime += passedTime / (double) NANOSECOND;
             framesCounter += passedTime;
 
+            long phaseStart = FrameProfiler.begin();
             input();
+            FrameProfiler.end(Phase.INPUT, phaseStart);
+
+            if(window.windowShouldClose()) stop();
+
+            if(framesCounter >= NANOSECOND){
+                setFps(frames);
+                framePacer.rollJitterWindow();
+                window.setTitle(String.format("Proto(2) : %d FPS | gigue %.2f ms (max %.2f) [%s] | %d draws, %d sommets | %d visibles, %d hors champ | état GL %d (%d évités)",
+                        getFps(), framePacer.getJitterMeanMs(), framePacer.getJitterMaxMs(), framePacer.getMode(),
+                        RenderStats.getDrawCalls(), RenderStats.getVertices(),
+                        RenderStats.getVisible(), RenderStats.getCulled(),
+                        RenderStats.getStateChanges(), RenderStats.getSkippedStateChanges()));
+                frames = 0;
+                framesCounter = 0;
+            }
 
-            while(unprocessedTime > frametime){
-                render = true;
+            // ✅ Accumulateur à pas fixe : autant de ticks que le temps écoulé en demande
+            int steps = 0;
+            while(unprocessedTime >= frametime && steps < maxStepsPerFrame){
                 unprocessedTime -= frametime;
+                steps++;
+            }
+            if(unprocessedTime >= frametime){
+                // Trop de retard : on abandonne les ticks en trop plutôt que de ralentir encore
+                unprocessedTime %= frametime;
+            }
+            // Fraction du tick écoulée, appliquée au snapshot figé ci-dessous (un tick de latence)
+            alpha = (float) (unprocessedTime / frametime);
+
+            if(steps > 0){
+                // ✅ Les ticks N+1.. tournent sur GameLogic pendant le rendu du tick N :
+                // le lot précédent est terminé et publié, son dernier tick (N) est figé pour le rendu
+                // avant de lancer le suivant. Les frames sans tick gardent ce même snapshot
+                awaitUpdate();
+                gameLogic.latchSnapshot();
+                pendingSteps = steps;
+                pendingUpdate = threadManager.submitGameTask(stepTask);
+            }
 
-                if(window.windowShouldClose()) stop();
+            // ✅ Rendu interpolé à chaque tour, cadencé par le FramePacer (OFF = non limité)
+            renderSynchronized();
+            frames++;
 
-                if(framesCounter >= NANOSECOND){
-                    setFps(frames);
-                    window.setTitle("Proto(2) : " + getFps() + " FPS");
-                    frames = 0;
-                    framesCounter = 0;
-                }
-            }
+            framePacer.sync();
+            FrameProfiler.end(Phase.FRAME, frameStart);
+        }
+        awaitUpdate();
+        cleanup();
+    }
+
+    // ✅ Boucle headless : simulation aussi rapide que possible, sans rendu
+    private void runHeadless() {
+        this.isRunning = true;
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        long ticks = 0;
+        long windowTicks = 0;
+        long startTime = System.nanoTime();
+        long windowStart = startTime;
+        long startAllocated = allocatedBytes(threads);
+        long windowAllocated = startAllocated;
 
-            if(render){
-                // ✅ Mise à jour parallèle, rendu synchronisé
-                updateParallel();
-                renderSynchronized();
-                frames++;
+        while (isRunning && (headlessTicks <= 0 || ticks < headlessTicks)) {
+            long frameStart = FrameProfiler.begin();
+            input();
+            update();
+            gameLogic.publish();
+            GLTaskQueue.drain();
+            FrameProfiler.end(Phase.FRAME, frameStart);
+            ticks++;
+            windowTicks++;
+
+            long now = System.nanoTime();
+            if (now - windowStart >= NANOSECOND) {
+                long allocated = allocatedBytes(threads);
+                double seconds = (now - windowStart) / (double) NANOSECOND;
+                setFps((int) (windowTicks / seconds));
+                Log.atInfo(Category.ENGINE).arg(getFps()).arg(formatBytes((allocated - windowAllocated) / seconds))
+                        .log("⏱️ Headless : %d ticks/s, %s/s alloués");
+                windowStart = now;
+                windowTicks = 0;
+                windowAllocated = allocated;
             }
         }
+
+        double seconds = (System.nanoTime() - startTime) / (double) NANOSECOND;
+        long allocated = allocatedBytes(threads) - startAllocated;
+        Log.atInfo(Category.ENGINE).arg(ticks).arg(seconds).arg(ticks / seconds)
+                .arg(formatBytes(allocated / (double) Math.max(ticks, 1)))
+                .log("✅ Headless terminé : %d ticks en %.2f s (%.0f ticks/s, %s/tick)");
         cleanup();
     }
 
-    // Dans EngineManager.java - Loop de jeu simplifiée
-    private void updateParallel() {
-        threadManager.withWriteLock(() -> {
-            try {
-                gameLogic.update();
-                background.update();
-            } catch (Exception e) {
-                System.err.println("❌ Erreur update: " + e.getMessage());
-            }
-        });
+    // Octets alloués par le thread courant, -1 si la JVM ne le mesure pas
+    private static long allocatedBytes(ThreadMXBean threads) {
+        if (threads instanceof com.sun.management.ThreadMXBean sunThreads) {
+            return sunThreads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private static String formatBytes(double bytes) {
+        if (bytes < 0) return "n/a";
+        if (bytes < 1024) return String.format("%.0f o", bytes);
+        if (bytes < 1024 * 1024) return String.format("%.1f Ko", bytes / 1024);
+        return String.format("%.1f Mo", bytes / (1024 * 1024));
+    }
+
+    // ✅ Un tick de simulation (thread GameLogic, ou thread principal en headless)
+    private void update() {
+        try {
+            long phaseStart = FrameProfiler.begin();
+            gameLogic.update();
+            FrameProfiler.end(Phase.UPDATE, phaseStart);
+
+            phaseStart = FrameProfiler.begin();
+            background.update();
+            FrameProfiler.end(Phase.BACKGROUND_UPDATE, phaseStart);
+        } catch (Exception e) {
+            Log.atError(Category.ENGINE).cause(e).log("❌ Erreur update");
+        }
+    }
+
+    // ✅ Un seul snapshot publié par lot : le rendu ne voit jamais un tick du milieu d'un lot
+    private void runSteps() {
+        for (int i = 0; i < pendingSteps; i++) {
+            update();
+        }
+        gameLogic.publish();
+    }
+
+    // Attend la fin du tick en cours : son snapshot est alors publié
+    private void awaitUpdate() {
+        if (pendingUpdate == null) return;
+        try {
+            pendingUpdate.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Log.atError(Category.ENGINE).cause(e.getCause()).log("❌ Erreur update");
+        }
+        pendingUpdate = null;
     }
 
     private void renderSynchronized() {
+        RenderStats.beginFrame();
+        GpuResources.beginFrame(); // ✅ Suppressions différées dont plus aucune frame n'a besoin
         GL11.glClear(GL11.GL_COLOR_BUFFER_BIT | GL11.GL_DEPTH_BUFFER_BIT);
 
-        threadManager.withReadLock(() -> {
-            try {
-                background.render();      // ✅ Arrière-plan (Z=0.9)
-                platforms.render(camera);       // ✅ Plateformes (Z=-0.1)
-                gameLogic.render();
-            } catch (Exception e) {
-                System.err.println("❌ Erreur render: " + e.getMessage());
-            }
-        });
+        // ✅ Opérations GL différées (maillages, textures, suppressions) : budget de temps par frame
+        long phaseStart = FrameProfiler.begin();
+        GLTaskQueue.runFrame();
+        FrameProfiler.end(Phase.GL_TASKS, phaseStart);
+
+        try {
+            phaseStart = FrameProfiler.begin();
+            background.render();      // ✅ Arrière-plan (Z=0.9)
+            FrameProfiler.end(Phase.RENDER_BACKGROUND, phaseStart);
+
+            phaseStart = FrameProfiler.begin();
+            gameLogic.render();       // ✅ Plateformes et joueur depuis le snapshot
+            FrameProfiler.end(Phase.RENDER_WORLD, phaseStart);
+        } catch (Exception e) {
+            Log.atError(Category.RENDER).cause(e).log("❌ Erreur render");
+        }
 
+        phaseStart = FrameProfiler.begin();
         window.update();
+        FrameProfiler.end(Phase.SWAP, phaseStart);
     }
 
     public void stop() {
@@ -139,17 +314,64 @@ public class EngineManager {
 
     private void input() {
         gameLogic.input();
+
+        // ✅ F1 : change le mode de cadence à chaud
+        if (!Backend.isHeadless()) {
+            boolean pacingKey = window.isKeyPressed(GLFW.GLFW_KEY_F1);
+            if (pacingKey && !pacingKeyDown) {
+                Log.atInfo(Category.ENGINE).arg(framePacer.cycleMode()).log("⏱️ Cadence : %s");
+            }
+            pacingKeyDown = pacingKey;
+
+            // ✅ F2 : affiche les histogrammes de frame
+            boolean statsKey = window.isKeyPressed(GLFW.GLFW_KEY_F2);
+            if (statsKey && !statsKeyDown) {
+                Log.atInfo(Category.ENGINE).arg(FrameProfiler.report()).log("📊 Histogrammes de frame :%n%s");
+                GpuResources.logReport();
+                Log.atInfo(Category.RENDER).arg(GLTaskQueue.report()).log("📊 Tâches GL : %s");
+                if (platforms != null) {
+                    Log.atInfo(Category.WORLD).arg(platforms.getGenerationReport()).log("📊 Génération : %s");
+                }
+            }
+            statsKeyDown = statsKey;
+        }
     }
 
     public void cleanup() {
+        threadManager.shutdown();
+        AsyncTextureLoader.shutdown();
+        FrameProfiler.dump(statsFile);
 
-        window.cleanup();
+        if (Backend.isHeadless()) {
+            gameLogic.cleanup();
+            return;
+        }
+
+        // ✅ Ressources GL libérées avant la destruction du contexte
         background.cleanup();
         gameLogic.cleanup(); // ✅ Ajouté
+        GpuResources.logReport(); // Tout doit être à 0 ici
+        window.cleanup();
         errorCallback.free();
         GLFW.glfwTerminate();
     }
 
+    public void setMaxStepsPerFrame(int maxStepsPerFrame) {
+        this.maxStepsPerFrame = Math.max(1, maxStepsPerFrame);
+    }
+
+    public void setStatsFile(Path statsFile) {
+        this.statsFile = statsFile;
+    }
+
+    public FramePacer getFramePacer() {
+        return framePacer;
+    }
+
+    public static float getAlpha() {
+        return alpha;
+    }
+
     public static int getFps() {
         return fps;
     }
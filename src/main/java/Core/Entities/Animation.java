@@ -1,9 +1,11 @@
 package Core.Entities;
 
-import Core.ObjectLoader;
+import Core.AssetArchive;
+import Core.Logging.Category;
+import Core.Logging.Log;
 
 public class Animation {
-    private final Texture[] frames;
+    private final TextureRegion[] frames;
     private volatile int pointer;
     private volatile boolean isPlaying;
     private volatile boolean loop;
@@ -16,7 +18,8 @@ public class Animation {
     // ✅ Verrou pour les opérations critiques
     private final Object animationLock = new Object();
 
-    public Animation(int amount, int fps, String filename, ObjectLoader loader) {
+    // ✅ Les frames sont des régions d'un atlas partagé : changer de frame ne change pas de texture
+    public Animation(TextureRegion[] frames, int fps) {
         this.pointer = 0;
         this.isPlaying = false;
         this.loop = true;
@@ -25,56 +28,22 @@ public class Animation {
         this.lastTime = System.nanoTime() / 1_000_000_000.0;
         this.fps = 1.0/(double)fps;
 
-        this.frames = new Texture[amount];
-
-        // ✅ Chargement avec gestion d'erreur améliorée
-        loadFrames(amount, filename, loader);
+        this.frames = frames;
     }
 
-    // ✅ Méthode séparée pour le chargement des frames
-    private void loadFrames(int amount, String filename, ObjectLoader loader) {
-        for(int i = 0; i < amount; i++){
-            try {
-                // ✅ Format de nom de fichier plus flexible
-                String fullPath = String.format("src/main/resources/textures/%s_%d.png", filename, i);
-                // Essayer d'abord avec index
-                int textureId = tryLoadTexture(fullPath, loader);
-
-                if (textureId == -1) {
-                    // Si échec, essayer sans index pour frame 0
-                    fullPath = "src/main/resources/textures/" + filename + ".png";
-                    textureId = tryLoadTexture(fullPath, loader);
-                }
-
-                if (textureId != -1) {
-                    this.frames[i] = new Texture(textureId);
-                    System.out.println("🎬 Frame " + i + " chargée: " + fullPath);
-                } else {
-                    // Texture par défaut
-                    int defaultId = loader.createDefaultTexture();
-                    this.frames[i] = new Texture(defaultId);
-                    System.out.println("⚠️ Frame " + i + " utilise texture par défaut");
-                }
-
-            } catch (Exception e) {
-                System.err.println("❌ Erreur chargement frame " + i + ": " + e.getMessage());
-                try {
-                    int defaultId = loader.createDefaultTexture();
-                    this.frames[i] = new Texture(defaultId);
-                } catch (Exception ex) {
-                    System.err.println("❌ Impossible de créer texture par défaut pour frame " + i);
-                }
+    // ✅ Noms des frames "nom_i.png" ; à défaut "nom.png" (animation d'une seule image répétée).
+    // Présence vérifiée dans l'index de l'archive : pas d'ouverture de fichier ratée
+    public static String[] framePaths(int amount, String filename) {
+        String[] paths = new String[amount];
+        for (int i = 0; i < amount; i++) {
+            String fullPath = String.format("textures/%s_%d.png", filename, i);
+            if (!AssetArchive.exists(fullPath)) {
+                fullPath = "textures/" + filename + ".png";
             }
+            paths[i] = fullPath;
+            Log.atDebug(Category.RESOURCES).arg(i).arg(fullPath).log("🎬 Frame %d : %s");
         }
-    }
-
-    // ✅ Méthode helper pour essayer le chargement
-    private int tryLoadTexture(String path, ObjectLoader loader) {
-        try {
-            return loader.loadTexture(path);
-        } catch (Exception e) {
-            return -1; // Échec
-        }
+        return paths;
     }
 
     public void play() {
@@ -113,13 +82,21 @@ public class Animation {
     }
 
     public boolean update() {
+        synchronized (animationLock) {
+            currentTime = System.nanoTime() / 1_000_000_000.0;
+            double deltaTime = currentTime - lastTime;
+            lastTime = currentTime;
+            return update(deltaTime);
+        }
+    }
+
+    // ✅ Avance de deltaTime secondes de simulation (pas fixe, indépendant du rendu)
+    public boolean update(double deltaTime) {
 
         synchronized (animationLock) {
             int oldPointer = pointer;
 
-            currentTime = System.nanoTime() / 1_000_000_000.0;
-            elapsedTime += (currentTime - lastTime);
-            lastTime = currentTime;
+            elapsedTime += deltaTime;
 
             if (elapsedTime >= fps) {
                 elapsedTime = 0;
@@ -138,7 +115,7 @@ public class Animation {
         }
     }
 
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         synchronized (animationLock) {
             if (frames.length == 0) return null;
             return frames[pointer];
@@ -1,9 +1,12 @@
 // Remplacer le contenu de Core/Entities/Camera.java
 package Core.Entities;
 
+import org.joml.FrustumIntersection;
 import org.joml.Matrix4f;
 import org.joml.Vector3f;
 
+import java.nio.FloatBuffer;
+
 public class Camera {
     private Vector3f position;
     private Vector3f target;
@@ -13,6 +16,12 @@ public class Camera {
     private Matrix4f viewMatrix;
     private Matrix4f projectionMatrix;
 
+    // ✅ Plans du frustum (projection * vue), pour l'élimination hors champ : recalculés au premier
+    // test après un changement de matrice, donc seulement sur la caméra de rendu
+    private final Matrix4f viewProjection = new Matrix4f();
+    private final FrustumIntersection frustum = new FrustumIntersection();
+    private boolean frustumDirty = true;
+
     // Paramètres de caméra
     private float fov = 45.0f;
     private float aspectRatio;
@@ -53,10 +62,52 @@ public class Camera {
 
     private void updateViewMatrix() {
         viewMatrix.setLookAt(position, target, up);
+        frustumDirty = true;
     }
 
     private void updateProjectionMatrix() {
         projectionMatrix.setPerspective((float)Math.toRadians(fov), aspectRatio, nearPlane, farPlane);
+        frustumDirty = true;
+    }
+
+    // ✅ Boîte alignée sur les axes (coordonnées monde) au moins en partie dans le champ, sans allocation
+    public boolean isVisible(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        if (frustumDirty) {
+            frustum.set(projectionMatrix.mul(viewMatrix, viewProjection));
+            frustumDirty = false;
+        }
+        return frustum.testAab(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    // ✅ Copie complète de l'état (sans allocation), pour les snapshots
+    public void set(Camera other) {
+        position.set(other.position);
+        target.set(other.target);
+        up.set(other.up);
+        offset.set(other.offset);
+        viewMatrix.set(other.viewMatrix);
+        projectionMatrix.set(other.projectionMatrix);
+        fov = other.fov;
+        aspectRatio = other.aspectRatio;
+        nearPlane = other.nearPlane;
+        farPlane = other.farPlane;
+        smoothing = other.smoothing;
+        frustumDirty = true;
+    }
+
+    // ✅ État interpolé entre deux ticks (alpha dans 0..1), pour le rendu
+    public void interpolate(Camera previous, Camera current, float alpha) {
+        previous.position.lerp(current.position, alpha, position);
+        previous.target.lerp(current.target, alpha, target);
+        up.set(current.up);
+        offset.set(current.offset);
+        projectionMatrix.set(current.projectionMatrix);
+        fov = current.fov;
+        aspectRatio = current.aspectRatio;
+        nearPlane = current.nearPlane;
+        farPlane = current.farPlane;
+        smoothing = current.smoothing;
+        updateViewMatrix();
     }
 
     // Getters
@@ -64,6 +115,12 @@ public class Camera {
     public Matrix4f getProjectionMatrix() { return new Matrix4f(projectionMatrix); }
     public Vector3f getPosition() { return new Vector3f(position); }
 
+    // ✅ Projection puis vue (disposition std140 du bloc Camera), sans allocation
+    public void writeMatrices(FloatBuffer dest) {
+        projectionMatrix.get(0, dest);
+        viewMatrix.get(16, dest);
+    }
+
     // Setters
     public void setAspectRatio(float aspectRatio) {
         this.aspectRatio = aspectRatio;
@@ -1,26 +1,51 @@
 package Core.Entities;
 
+import Core.Backend;
+import Core.Logging.Category;
+import Core.Logging.Log;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class Model {
 
     private final int id;
     private final int vertexCount;
     private Texture texture;
 
+    // ✅ Références sur le VAO ; à 0 ses buffers partent dans la file de suppression différée
+    private final AtomicInteger references;
+
     public Model(int id, int vertexCount) {
         this.id = id;
         this.vertexCount = vertexCount;
+        this.references = new AtomicInteger(1);
     }
 
     public Model(int id, int vertexCount, Texture texture) {
-        this.id = id;
-        this.vertexCount = vertexCount;
+        this(id, vertexCount);
         this.texture = texture;
     }
 
+    // Vue sur le même VAO avec une autre texture : partage le compteur de l'original
     public Model(Model model,Texture texture) {
         this.id = model.getId();
         this.vertexCount = model.getVertexCount();
         this.texture = texture;
+        this.references = model.references;
+    }
+
+    public Model retain() {
+        references.incrementAndGet();
+        return this;
+    }
+
+    public void release() {
+        int remaining = references.decrementAndGet();
+        if (remaining == 0) {
+            Backend.getLoader().deleteModel(this);
+        } else if (remaining < 0) {
+            Log.atWarn(Category.RESOURCES).arg(id).log("⚠️ Modèle libéré plus de fois que retenu (VAO %d)");
+        }
     }
 
     public int getId() {
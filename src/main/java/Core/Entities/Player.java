@@ -1,18 +1,25 @@
 package Core.Entities;
 
-import Core.ObjectLoader;
+import Core.Backend;
+import Core.EngineManager;
+import Core.ILoader;
+import Core.Logging.Category;
+import Core.Logging.Log;
 import Core.World.PlatformManager;
+import Core.World.PlatformStore;
 import org.joml.Vector3f;
-import Core.Entities.Texture;
-import Core.Entities.Animation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 public class Player {
     private final Vector3f position;
     private final Vector3f velocity;
-    private final Model model;
 
     // ✅ Animations avec volatile pour visibilité entre threads
     private volatile Animation currentAnimation;
+    private volatile TextureRegion currentFrame; // Région de l'atlas du joueur
     private Animation idleAnimation;
     private Animation walkRightAnimation;
     private Animation walkLeftAnimation;
@@ -25,20 +32,30 @@ public class Player {
     private volatile boolean isMovingLeft = false;
     private volatile boolean isMovingRight = false;
     private volatile int effectiveDirection = 0;
-
-    // Constantes
-    private static final float MOVE_SPEED = 0.01f;
-    private static final float JUMP_STRENGTH = 0.05f;
-    private static final float GRAVITY = -0.0025f;
+    private volatile boolean jumpRequested = false; // Posé par l'input, consommé par update()
+    private long debugTick = 0;
+
+    // Constantes (unités par seconde), appliquées à chaque pas fixe de simulation
+    private static final float MOVE_SPEED = 0.6f;
+    private static final float JUMP_STRENGTH = 3.0f;
+    private static final float GRAVITY = -9.0f;
+    private static final float STEP = EngineManager.TIME_STEP;
     private static final float GROUND_LEVEL = -0.4f;
+    private static final Vector3f COLLISION_SIZE = new Vector3f(0.8f, 1.2f, 0.1f); // Pas d'allocation par tick
+
+    // ✅ Position prédite, réutilisée à chaque tick (thread de simulation)
+    private final Vector3f newPosition = new Vector3f();
+
+    // Limites horizontales du monde
+    public static final float WORLD_MIN_X = -10.0f;
+    public static final float WORLD_MAX_X = 50.0f;
 
     // Verrous pour différentes opérations
     private final Object positionLock = new Object();
     private final Object inputLock = new Object();
     private PlatformManager platforms;
 
-    public Player(Model model) { // ✅ Plus besoin de passer le loader
-        this.model = model;
+    public Player() {
         this.position = new Vector3f(0.0f, GROUND_LEVEL, 0.0f);
         this.velocity = new Vector3f(0.0f, 0.0f, 0.0f);
         initAnimations();
@@ -46,39 +63,49 @@ public class Player {
 
     private void initAnimations() {
         try {
-            ObjectLoader loader = ObjectLoader.getInstance(); // ✅ Singleton
+            ILoader loader = Backend.getLoader(); // ✅ Singleton
+
+            // ✅ Toutes les frames du joueur dans un seul atlas (une texture au lieu d'une par frame)
+            String[] names = {"player1", "player_moove", "player_jump", "player_Rigth_jump", "player_Left_jump", "player_moove_gauche"};
+            int[] amounts = {4, 6, 3, 4, 4, 3};
+            List<String> paths = new ArrayList<>();
+            for (int i = 0; i < names.length; i++) {
+                paths.addAll(Arrays.asList(Animation.framePaths(amounts[i], names[i])));
+            }
+            TextureRegion[] regions = loader.loadAtlas(paths.toArray(new String[0]));
 
-            idleAnimation = new Animation(4, 8, "player1", loader);
-            walkRightAnimation = new Animation(6, 12, "player_moove", loader);
-            jumpAnimation = new Animation(3, 10, "player_jump", loader);
-            jumpRightAnimation = new Animation(4, 16, "player_Rigth_jump", loader);
-            jumpLeftAnimation = new Animation(4, 16, "player_Left_jump", loader);
-            walkLeftAnimation = new Animation(3, 10, "player_moove_gauche", loader);
+            int first = 0;
+            idleAnimation = new Animation(Arrays.copyOfRange(regions, first, first += 4), 8);
+            walkRightAnimation = new Animation(Arrays.copyOfRange(regions, first, first += 6), 12);
+            jumpAnimation = new Animation(Arrays.copyOfRange(regions, first, first += 3), 10);
+            jumpRightAnimation = new Animation(Arrays.copyOfRange(regions, first, first += 4), 16);
+            jumpLeftAnimation = new Animation(Arrays.copyOfRange(regions, first, first += 4), 16);
+            walkLeftAnimation = new Animation(Arrays.copyOfRange(regions, first, first + 3), 10);
 
             currentAnimation = idleAnimation;
             currentAnimation.play();
+            currentFrame = currentAnimation.getCurrentFrame();
 
-            System.out.println("✅ Animations du joueur initialisées");
+            Log.atInfo(Category.PLAYER).log("✅ Animations du joueur initialisées");
         } catch (Exception e) {
-            System.err.println("❌ Erreur lors de l'initialisation des animations: " + e.getMessage());
+            Log.atError(Category.PLAYER).cause(e).log("❌ Erreur lors de l'initialisation des animations");
         }
     }
 
     // ✅ Dans Player.java - optimisation des verrous
     public void update() {
         synchronized (this) {
-            Vector3f oldPosition = new Vector3f(position);
+            float oldX = position.x;
+            float oldY = position.y;
             updateMovement();
 
-            // ✅ Debug pour voir les collisions
-            if (Math.random() < 0.01) { // 1% du temps
-                System.out.println("🎮 Joueur: X=" + String.format("%.2f", position.x) +
-                        " Y=" + String.format("%.2f", position.y) +
-                        " Au sol: " + isOnGround +
-                        " Vélocité Y: " + String.format("%.3f", velocity.y));
+            // ✅ Debug pour voir les collisions (un tick sur 100)
+            if (++debugTick % 100 == 0) {
+                Log.atDebug(Category.PLAYER).arg(position.x).arg(position.y).arg(isOnGround).arg(velocity.y)
+                        .log("🎮 Joueur: X=%.2f Y=%.2f Au sol: %b Vélocité Y: %.2f");
             }
 
-            if (!oldPosition.equals(position)) {
+            if (oldX != position.x || oldY != position.y) {
                 updateAnimations();
             }
         }
@@ -87,11 +114,18 @@ public class Player {
     private void updateMovement() {
         calculateEffectiveDirection();
 
-        Vector3f oldPosition = new Vector3f(position);
+        // Saut demandé depuis le thread d'input
+        if (jumpRequested) {
+            jumpRequested = false;
+            if (isOnGround) {
+                velocity.y = JUMP_STRENGTH;
+                isOnGround = false;
+            }
+        }
 
         // Appliquer la gravité
         if (!isOnGround) {
-            velocity.y += GRAVITY;
+            velocity.y += GRAVITY * STEP;
         }
 
         // Mouvement horizontal
@@ -104,7 +138,7 @@ public class Player {
         }
 
         // Prédire la nouvelle position
-        Vector3f newPosition = new Vector3f(position).add(velocity);
+        newPosition.set(position).fma(STEP, velocity);
 
         // Vérifier les collisions avec les plateformes
         handlePlatformCollisions(newPosition);
@@ -117,18 +151,18 @@ public class Player {
         updateAnimationState();
 
         if (currentAnimation != null) {
-            currentAnimation.update();
-            Texture currentFrame = currentAnimation.getCurrentFrame();
-            if (currentFrame != null && model != null) {
-                model.setTexture(currentFrame);
+            currentAnimation.update(STEP);
+            TextureRegion frame = currentAnimation.getCurrentFrame();
+            if (frame != null) {
+                currentFrame = frame; // Même texture : seules les coordonnées changent
             }
         }
     }
 
     private void clampToWorldBounds() {
         // Limites horizontales (optionnel)
-        if (position.x < -10.0f) position.x = -10.0f;
-        if (position.x > 50.0f) position.x = 50.0f;
+        if (position.x < WORLD_MIN_X) position.x = WORLD_MIN_X;
+        if (position.x > WORLD_MAX_X) position.x = WORLD_MAX_X;
     }
 
     private void calculateEffectiveDirection() {
@@ -153,17 +187,14 @@ public class Player {
             return;
         }
 
-        Vector3f playerSize = new Vector3f(0.8f, 1.2f, 0.1f);
+        Vector3f playerSize = COLLISION_SIZE;
 
         // ✅ Collision seulement quand on tombe
         if (velocity.y <= 0) {
-            Platform platformBelow = platforms.findPlatformBelow(newPosition, playerSize);
+            int platformBelow = platforms.findPlatformBelow(newPosition, playerSize);
 
-            if (platformBelow != null) {
-                Vector3f platPos = platformBelow.getPosition();
-                Vector3f platSize = platformBelow.getSize();
-
-                float platformTop = platPos.y + platSize.y/2;
+            if (platformBelow != PlatformStore.NONE) {
+                float platformTop = platforms.getStore().getTop(platformBelow);
                 float playerBottom = newPosition.y - playerSize.y/2;
 
                 // ✅ Distance de tolérance plus grande
@@ -175,7 +206,7 @@ public class Player {
                     velocity.y = 0.0f;
                     isOnGround = true;
 
-                    System.out.println("🎯 Collision détectée ! Joueur posé sur plateforme");
+                    Log.atDebug(Category.PLAYER).log("🎯 Collision détectée ! Joueur posé sur plateforme");
                     return;
                 }
             }
@@ -219,8 +250,8 @@ public class Player {
             currentAnimation.play();
 
             // ✅ Debug pour vérifier les changements d'animation
-            System.out.println("🎬 Animation changée vers: " + getAnimationName(newAnimation) +
-                    " (Direction: " + effectiveDirection + ", Au sol: " + isOnGround + ")");
+            Log.atDebug(Category.PLAYER).arg(getAnimationName(newAnimation)).arg(effectiveDirection).arg(isOnGround)
+                    .log("🎬 Animation changée vers: %s (Direction: %d, Au sol: %b)");
         }
     }
 
@@ -247,12 +278,7 @@ public class Player {
 
     // ✅ Méthodes d'entrée de thread safe
     public void jump() {
-        synchronized (positionLock) {
-            if (isOnGround) {
-                velocity.y = JUMP_STRENGTH;
-                isOnGround = false;
-            }
-        }
+        jumpRequested = true;
     }
 
     public void moveLeft(boolean moving) {
@@ -274,12 +300,17 @@ public class Player {
         }
     }
 
-    public Model getModel() {
-        return model;
+    // ✅ Sans allocation, pour le thread de simulation
+    public Vector3f getPosition(Vector3f dest) {
+        return dest.set(position);
+    }
+
+    public TextureRegion getCurrentFrame() {
+        return currentFrame;
     }
 
     public void setPlatformManager(PlatformManager platformManager) {
         this.platforms = platformManager;
-        System.out.println("✅ PlatformManager lié au joueur");
+        Log.atInfo(Category.PLAYER).log("✅ PlatformManager lié au joueur");
     }
 }
\ No newline at end of file
@@ -1,28 +1,73 @@
 package Core.Entities;
 
-import Core.ObjectLoader;
+import Core.Backend;
+import Core.ILoader;
+import Core.Logging.Category;
+import Core.Logging.Log;
+
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Texture {
-    private final int id;
+    // Lu à chaque draw : remplacé une fois quand une texture chargée en asynchrone arrive sur le GPU
+    private volatile int id;
+    private volatile boolean loaded = true;
+
+    // ✅ Références sur la texture GPU ; à 0 elle part dans la file de suppression différée
+    private final AtomicInteger references = new AtomicInteger(1);
 
     public Texture(int id) {
         this.id = id;
     }
 
+    // ✅ Texture en cours de chargement : affiche l'image de remplacement (partagée, jamais supprimée ici)
+    public static Texture placeholder(int placeholderId) {
+        Texture texture = new Texture(placeholderId);
+        texture.loaded = false;
+        return texture;
+    }
+
+    // Thread GL, une fois l'envoi terminé
+    public void finishLoading(int textureId) {
+        this.id = textureId;
+        this.loaded = true;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public boolean isReleased() {
+        return references.get() <= 0;
+    }
+
+    public Texture retain() {
+        references.incrementAndGet();
+        return this;
+    }
+
+    public void release() {
+        int remaining = references.decrementAndGet();
+        if (remaining == 0 && loaded) {
+            Backend.getLoader().deleteTexture(id);
+        } else if (remaining < 0) {
+            Log.atWarn(Category.RESOURCES).arg(id).log("⚠️ Texture libérée plus de fois que retenue (ID %d)");
+        }
+    }
+
     // ✅ CORRIGÉ : Utilise le singleton ObjectLoader
     public Texture(String filename) {
         int textureId = 0;
         try {
-            ObjectLoader loader = ObjectLoader.getInstance(); // ✅ Singleton
+            ILoader loader = Backend.getLoader(); // ✅ Singleton
             textureId = loader.loadTexture(filename);
-            System.out.println("✅ Texture chargée: " + filename + " -> ID: " + textureId);
+            Log.atInfo(Category.RESOURCES).arg(filename).arg(textureId).log("✅ Texture chargée: %s -> ID: %d");
         } catch (Exception e) {
-            System.err.println("❌ Erreur chargement texture " + filename + ": " + e.getMessage());
+            Log.atError(Category.RESOURCES).arg(filename).arg(e.getMessage()).log("❌ Erreur chargement texture %s: %s");
             try {
-                ObjectLoader loader = ObjectLoader.getInstance();
+                ILoader loader = Backend.getLoader();
                 textureId = loader.createDefaultTexture();
             } catch (Exception ex) {
-                System.err.println("❌ Impossible de créer texture par défaut");
+                Log.atError(Category.RESOURCES).log("❌ Impossible de créer texture par défaut");
                 textureId = 0;
             }
         }
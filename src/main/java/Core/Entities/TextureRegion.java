@@ -0,0 +1,25 @@
+package Core.Entities;
+
+/**
+ * Zone d'une texture (cellule d'atlas). Les coordonnées suivent la convention
+ * de drawSprite : (u0, v0) = coin bas gauche, (u1, v1) = coin haut droit,
+ * l'image étant stockée la première ligne en haut.
+ */
+public class TextureRegion {
+    private final Texture texture;
+    private final float u0, v0, u1, v1;
+
+    public TextureRegion(Texture texture, float u0, float v0, float u1, float v1) {
+        this.texture = texture;
+        this.u0 = u0;
+        this.v0 = v0;
+        this.u1 = u1;
+        this.v1 = v1;
+    }
+
+    public Texture getTexture() { return texture; }
+    public float getU0() { return u0; }
+    public float getV0() { return v0; }
+    public float getU1() { return u1; }
+    public float getV1() { return v1; }
+}
@@ -0,0 +1,136 @@
+package Core;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Limiteur de fréquence de la boucle principale.
+ * En mode HYBRID le thread dort pendant la plus grande partie du temps restant
+ * et n'attend activement que la dernière fraction de milliseconde, ce qui garde
+ * une cadence aussi régulière que l'attente active sans occuper un cœur à 100 %.
+ */
+public class FramePacer {
+
+    public enum Mode {
+        HYBRID,  // Sommeil puis attente active sur la fin
+        SLEEP,   // Sommeil seul (moins précis)
+        SPIN,    // Attente active seule (ancien comportement)
+        OFF      // Pas de limite
+    }
+
+    // Bornes de la marge d'attente active, ajustée selon la précision mesurée du sommeil
+    private static final long MIN_SPIN_NS = 200_000L;
+    private static final long MAX_SPIN_NS = 2_000_000L;
+
+    private volatile Mode mode;
+    private volatile long periodNs;
+
+    private long deadline = 0;
+    private long lastFrame = 0;
+    private long spinThresholdNs = 1_000_000L;
+
+    // Statistiques de gigue sur la fenêtre courante (écart entre durée de frame et période visée)
+    private long jitterSumNs = 0;
+    private long jitterMaxNs = 0;
+    private int jitterSamples = 0;
+    private float lastJitterMeanMs = 0.0f;
+    private float lastJitterMaxMs = 0.0f;
+
+    public FramePacer(float targetRate, Mode mode) {
+        setTargetRate(targetRate);
+        this.mode = mode;
+    }
+
+    // ✅ Attend le début de la frame suivante
+    public void sync() {
+        long period = periodNs;
+        long now = System.nanoTime();
+
+        if (mode != Mode.OFF) {
+            if (deadline == 0 || now - deadline > period) {
+                // Premier appel ou trop de retard : on se recale sur maintenant
+                deadline = now;
+            }
+            deadline += period;
+            waitUntil(deadline);
+            now = System.nanoTime();
+        }
+
+        if (lastFrame != 0) {
+            recordJitter(Math.abs((now - lastFrame) - period));
+        }
+        lastFrame = now;
+    }
+
+    private void waitUntil(long target) {
+        Mode current = mode;
+
+        if (current != Mode.SPIN) {
+            long margin = current == Mode.HYBRID ? spinThresholdNs : 0;
+            long remaining;
+            while ((remaining = target - System.nanoTime()) > margin) {
+                long before = System.nanoTime();
+                long request = remaining - margin;
+                LockSupport.parkNanos(request);
+                if (current == Mode.HYBRID) {
+                    adjustSpinThreshold(System.nanoTime() - before - request);
+                }
+            }
+        }
+
+        while (target - System.nanoTime() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    // Marge = retard de réveil observé, lissé, avec une décroissance lente
+    private void adjustSpinThreshold(long oversleepNs) {
+        long estimate = Math.max(oversleepNs * 2, spinThresholdNs - spinThresholdNs / 64);
+        spinThresholdNs = Math.max(MIN_SPIN_NS, Math.min(MAX_SPIN_NS, estimate));
+    }
+
+    private void recordJitter(long jitterNs) {
+        jitterSumNs += jitterNs;
+        jitterMaxNs = Math.max(jitterMaxNs, jitterNs);
+        jitterSamples++;
+    }
+
+    // ✅ Clôt la fenêtre de mesure (appelé une fois par seconde)
+    public void rollJitterWindow() {
+        lastJitterMeanMs = jitterSamples == 0 ? 0.0f : jitterSumNs / (float) jitterSamples / 1_000_000.0f;
+        lastJitterMaxMs = jitterMaxNs / 1_000_000.0f;
+        jitterSumNs = 0;
+        jitterMaxNs = 0;
+        jitterSamples = 0;
+    }
+
+    public float getJitterMeanMs() {
+        return lastJitterMeanMs;
+    }
+
+    public float getJitterMaxMs() {
+        return lastJitterMaxMs;
+    }
+
+    public void setTargetRate(float targetRate) {
+        if (targetRate <= 0) throw new IllegalArgumentException("Fréquence invalide : " + targetRate);
+        this.periodNs = (long) (1_000_000_000L / targetRate);
+    }
+
+    public float getTargetRate() {
+        return 1_000_000_000L / (float) periodNs;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public Mode cycleMode() {
+        Mode[] modes = Mode.values();
+        mode = modes[(mode.ordinal() + 1) % modes.length];
+        return mode;
+    }
+}
@@ -0,0 +1,141 @@
+package Core;
+
+import Core.Metrics.RenderStats;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL13;
+import org.lwjgl.opengl.GL20;
+import org.lwjgl.opengl.GL30;
+
+import java.util.Arrays;
+
+/**
+ * Cache de l'état OpenGL (thread GL uniquement). Tous les changements d'état
+ * passent par ici : un appel qui ne changerait rien n'est pas envoyé au pilote.
+ * Les appels envoyés et évités sont comptés dans {@link RenderStats}.
+ * <p>
+ * Un état inconnu (après {@link #invalidate()}) est toujours réémis.
+ */
+public final class GLState {
+
+    private static final int UNKNOWN = -1;
+    private static final int MAX_TEXTURE_UNITS = 16;
+
+    // Capacités suivies ; les autres passent directement au pilote
+    private static final int[] CAPS = {GL11.GL_BLEND, GL11.GL_DEPTH_TEST, GL11.GL_STENCIL_TEST, GL11.GL_CULL_FACE};
+    private static final int[] capStates = new int[CAPS.length];
+
+    private static int program;
+    private static int vertexArray;
+    private static int activeUnit;
+    private static final int[] textures = new int[MAX_TEXTURE_UNITS];
+    private static int blendSrc, blendDst;
+
+    static {
+        invalidate();
+    }
+
+    private GLState() {}
+
+    // ✅ Oublie tout : l'état réel a pu être modifié hors du cache (nouveau contexte...)
+    public static void invalidate() {
+        program = UNKNOWN;
+        vertexArray = UNKNOWN;
+        activeUnit = UNKNOWN;
+        Arrays.fill(textures, UNKNOWN);
+        Arrays.fill(capStates, UNKNOWN);
+        blendSrc = UNKNOWN;
+        blendDst = UNKNOWN;
+    }
+
+    public static void useProgram(int id) {
+        if (program == id) {
+            RenderStats.stateSkipped();
+            return;
+        }
+        GL20.glUseProgram(id);
+        program = id;
+        RenderStats.stateChange();
+    }
+
+    public static void bindVertexArray(int id) {
+        if (vertexArray == id) {
+            RenderStats.stateSkipped();
+            return;
+        }
+        GL30.glBindVertexArray(id);
+        vertexArray = id;
+        RenderStats.stateChange();
+    }
+
+    // Lie une texture 2D sur l'unité donnée (active l'unité si nécessaire)
+    public static void bindTexture(int unit, int id) {
+        if (textures[unit] == id) {
+            RenderStats.stateSkipped();
+            return;
+        }
+        activeTexture(unit);
+        GL11.glBindTexture(GL11.GL_TEXTURE_2D, id);
+        textures[unit] = id;
+        RenderStats.stateChange();
+    }
+
+    private static void activeTexture(int unit) {
+        if (activeUnit == unit) return;
+        GL13.glActiveTexture(GL13.GL_TEXTURE0 + unit);
+        activeUnit = unit;
+        RenderStats.stateChange();
+    }
+
+    // ✅ Une texture supprimée ne doit plus être considérée comme liée
+    public static void forgetTexture(int id) {
+        for (int unit = 0; unit < MAX_TEXTURE_UNITS; unit++) {
+            if (textures[unit] == id) textures[unit] = UNKNOWN;
+        }
+    }
+
+    public static void forgetVertexArray(int id) {
+        if (vertexArray == id) vertexArray = UNKNOWN;
+    }
+
+    public static void enable(int cap) {
+        setEnabled(cap, true);
+    }
+
+    public static void disable(int cap) {
+        setEnabled(cap, false);
+    }
+
+    public static void setEnabled(int cap, boolean enabled) {
+        int slot = capSlot(cap);
+        int wanted = enabled ? 1 : 0;
+        if (slot >= 0 && capStates[slot] == wanted) {
+            RenderStats.stateSkipped();
+            return;
+        }
+        if (enabled) {
+            GL11.glEnable(cap);
+        } else {
+            GL11.glDisable(cap);
+        }
+        if (slot >= 0) capStates[slot] = wanted;
+        RenderStats.stateChange();
+    }
+
+    public static void blendFunc(int src, int dst) {
+        if (blendSrc == src && blendDst == dst) {
+            RenderStats.stateSkipped();
+            return;
+        }
+        GL11.glBlendFunc(src, dst);
+        blendSrc = src;
+        blendDst = dst;
+        RenderStats.stateChange();
+    }
+
+    private static int capSlot(int cap) {
+        for (int i = 0; i < CAPS.length; i++) {
+            if (CAPS[i] == cap) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,144 @@
+package Core;
+
+import Core.Logging.Category;
+import Core.Logging.Log;
+import Core.Metrics.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * File des opérations OpenGL différées (créations de maillages, envois de textures,
+ * suppressions de ressources), postées depuis n'importe quel thread et exécutées par
+ * {@link EngineManager} sur le thread GL avant le rendu.
+ * <p>
+ * {@link #runFrame()} n'y consacre qu'un budget de temps par frame : les priorités
+ * passent dans l'ordre (HIGH, NORMAL puis LOW), chaque priorité non vide exécute au moins une tâche,
+ * et ce qui dépasse le budget est reporté à la frame suivante. Une rafale de travail
+ * s'étale donc sur plusieurs frames au lieu de provoquer un à-coup.
+ * Les tâches longues et découpables peuvent consulter {@link #outOfTime()} et se reposter.
+ */
+public final class GLTaskQueue {
+
+    public enum Priority {
+        HIGH,    // Nécessaire au rendu des prochaines frames (maillages visibles)
+        NORMAL,  // Envois de textures
+        LOW      // Suppressions différées, nettoyage
+    }
+
+    private static final long DEFAULT_BUDGET_NS = 2_000_000L; // 2 ms par frame
+
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final List<Queue<Runnable>> tasks = new ArrayList<>(PRIORITIES.length); // Par ordinal
+
+    static {
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            tasks.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    // size() d'une ConcurrentLinkedQueue est en O(n) : compteur à part
+    private static final AtomicInteger pending = new AtomicInteger();
+
+    private static volatile long budgetNanos = DEFAULT_BUDGET_NS;
+    private static long deadline = Long.MAX_VALUE; // Thread GL
+
+    // ✅ Compteurs (thread GL)
+    private static final Histogram frameTime = new Histogram();
+    private static final long[] executedByPriority = new long[PRIORITIES.length];
+    private static long carriedOver = 0;      // Somme, sur les frames, des tâches reportées
+    private static long framesOverBudget = 0;
+    private static int lastExecuted = 0;
+    private static int lastCarriedOver = 0;
+
+    private GLTaskQueue() {}
+
+    public static void submit(Runnable task) {
+        submit(Priority.NORMAL, task);
+    }
+
+    public static void submit(Priority priority, Runnable task) {
+        pending.incrementAndGet();
+        tasks.get(priority.ordinal()).offer(task);
+    }
+
+    // ✅ Thread GL, une fois par frame : exécute les tâches dans la limite du budget
+    public static void runFrame() {
+        if (pending.get() == 0) {
+            lastExecuted = 0;
+            lastCarriedOver = 0;
+            return;
+        }
+
+        long start = System.nanoTime();
+        deadline = start + budgetNanos;
+        int executed = 0;
+        for (int p = 0; p < PRIORITIES.length; p++) {
+            Queue<Runnable> queue = tasks.get(p);
+            Runnable task;
+            int executedHere = 0;
+            // Au moins une tâche par priorité non vide : LOW (suppressions) progresse même
+            // quand HIGH et NORMAL remplissent le budget
+            while ((executedHere == 0 || System.nanoTime() < deadline) && (task = queue.poll()) != null) {
+                run(task);
+                executedHere++;
+            }
+            executedByPriority[p] += executedHere;
+            executed += executedHere;
+        }
+        long elapsed = System.nanoTime() - start;
+        deadline = Long.MAX_VALUE;
+
+        frameTime.record(elapsed);
+        if (elapsed > budgetNanos) framesOverBudget++;
+        lastExecuted = executed;
+        lastCarriedOver = pending.get();
+        carriedOver += lastCarriedOver;
+    }
+
+    // ✅ Tout exécuter sans budget (mode headless, fermeture)
+    public static void drain() {
+        for (int p = 0; p < PRIORITIES.length; p++) {
+            Queue<Runnable> queue = tasks.get(p);
+            Runnable task;
+            while ((task = queue.poll()) != null) {
+                run(task);
+            }
+        }
+    }
+
+    private static void run(Runnable task) {
+        pending.decrementAndGet();
+        try {
+            task.run();
+        } catch (Exception e) {
+            Log.atError(Category.RENDER).cause(e).log("❌ Erreur tâche GL");
+        }
+    }
+
+    // ✅ Pour les tâches découpables : le budget de la frame est-il épuisé ?
+    public static boolean outOfTime() {
+        return System.nanoTime() >= deadline;
+    }
+
+    public static void setBudgetMillis(double millis) {
+        budgetNanos = (long) (millis * 1_000_000L);
+    }
+
+    public static int getPendingCount() { return pending.get(); }
+    public static int getLastExecuted() { return lastExecuted; }
+    public static int getLastCarriedOver() { return lastCarriedOver; }
+
+    // ✅ Temps passé par frame, tâches exécutées par priorité, travail reporté
+    public static String report() {
+        return String.format("budget %.2f ms | temps p50 %.3f p99 %.3f max %.3f ms | %d hors budget"
+                        + " | exécutées HIGH %d NORMAL %d LOW %d | reportées %d (en attente %d)",
+                budgetNanos / 1e6, frameTime.getPercentile(50) / 1e6, frameTime.getPercentile(99) / 1e6,
+                frameTime.getMax() / 1e6, framesOverBudget,
+                executedByPriority[0], executedByPriority[1], executedByPriority[2],
+                carriedOver, pending.get());
+    }
+}
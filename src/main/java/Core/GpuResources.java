@@ -0,0 +1,139 @@
+package Core;
+
+import Core.Logging.Category;
+import Core.Logging.Log;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL30;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Suivi des ressources GPU : nombre et octets vivants par type, et file de
+ * suppression différée. Une ressource libérée (depuis n'importe quel thread)
+ * n'est supprimée sur le thread GL qu'une fois passées les frames qui ont pu
+ * encore l'utiliser. Les compteurs permettent de vérifier qu'une longue session
+ * garde une mémoire GPU stable.
+ */
+public final class GpuResources {
+
+    public enum Kind { VERTEX_ARRAY, BUFFER, TEXTURE }
+
+    // Frames soumises qui peuvent encore référencer une ressource libérée
+    private static final int FRAMES_IN_FLIGHT = 2;
+
+    private static final Kind[] KINDS = Kind.values();
+    private static final AtomicLongArray counts = new AtomicLongArray(KINDS.length);
+    private static final AtomicLongArray bytes = new AtomicLongArray(KINDS.length);
+
+    private static final Queue<Pending> released = new ConcurrentLinkedQueue<>();
+    private static final ArrayDeque<Pending> waiting = new ArrayDeque<>(); // Thread GL
+    private static volatile long frame = 0;
+    private static boolean deletionScheduled = false; // Thread GL
+
+    private record Pending(Kind kind, int id, long bytes, long frame) {}
+
+    private GpuResources() {}
+
+    // ✅ Comptabilité (appelée à la création / au redimensionnement)
+    public static void created(Kind kind, long size) {
+        counts.incrementAndGet(kind.ordinal());
+        bytes.addAndGet(kind.ordinal(), size);
+    }
+
+    public static void resized(Kind kind, long deltaBytes) {
+        bytes.addAndGet(kind.ordinal(), deltaBytes);
+    }
+
+    // ✅ Suppression différée, depuis n'importe quel thread
+    public static void deleteLater(Kind kind, int id, long size) {
+        released.offer(new Pending(kind, id, size, frame));
+    }
+
+    // ✅ Thread GL, en début de frame : ce qu'aucune frame en vol n'utilise plus est supprimé
+    // par une tâche LOW de GLTaskQueue, dans le budget de la frame (le reste attend la suivante)
+    public static void beginFrame() {
+        ++frame;
+
+        Pending pending;
+        while ((pending = released.poll()) != null) {
+            waiting.addLast(pending);
+        }
+        if (!deletionScheduled && isExpired(waiting.peekFirst())) {
+            deletionScheduled = true;
+            GLTaskQueue.submit(GLTaskQueue.Priority.LOW, GpuResources::deleteExpired);
+        }
+    }
+
+    private static void deleteExpired() {
+        deletionScheduled = false;
+        Pending pending;
+        do {
+            pending = waiting.peekFirst();
+            if (!isExpired(pending)) return;
+            waiting.pollFirst();
+            delete(pending);
+        } while (!GLTaskQueue.outOfTime());
+    }
+
+    private static boolean isExpired(Pending pending) {
+        return pending != null && pending.frame + FRAMES_IN_FLIGHT < frame;
+    }
+
+    // Fermeture : plus aucune frame en vol
+    public static void deleteAllNow() {
+        Pending pending;
+        while ((pending = released.poll()) != null) {
+            waiting.addLast(pending);
+        }
+        while ((pending = waiting.pollFirst()) != null) {
+            delete(pending);
+        }
+    }
+
+    private static void delete(Pending pending) {
+        switch (pending.kind) {
+            case VERTEX_ARRAY -> {
+                GL30.glDeleteVertexArrays(pending.id);
+                GLState.forgetVertexArray(pending.id);
+            }
+            case BUFFER -> GL15.glDeleteBuffers(pending.id);
+            case TEXTURE -> {
+                GL11.glDeleteTextures(pending.id);
+                GLState.forgetTexture(pending.id);
+            }
+        }
+        counts.decrementAndGet(pending.kind.ordinal());
+        bytes.addAndGet(pending.kind.ordinal(), -pending.bytes);
+    }
+
+    // ✅ Statistiques
+    public static long getCount(Kind kind) {
+        return counts.get(kind.ordinal());
+    }
+
+    public static long getBytes(Kind kind) {
+        return bytes.get(kind.ordinal());
+    }
+
+    public static int getPendingDeletions() {
+        return released.size() + waiting.size();
+    }
+
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        for (Kind kind : KINDS) {
+            sb.append(String.format("%-13s %6d vivants %10.1f Ko%n",
+                    kind, getCount(kind), getBytes(kind) / 1024.0));
+        }
+        sb.append(String.format("En attente de suppression : %d", getPendingDeletions()));
+        return sb.toString();
+    }
+
+    public static void logReport() {
+        Log.atInfo(Category.RESOURCES).arg(report()).log("📦 Ressources GPU :%n%s");
+    }
+}
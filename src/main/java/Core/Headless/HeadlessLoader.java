@@ -0,0 +1,70 @@
+package Core.Headless;
+
+import Core.Entities.Model;
+import Core.Entities.Texture;
+import Core.Entities.TextureRegion;
+import Core.ILoader;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chargeur sans OpenGL : distribue des identifiants factices
+ * pour que la simulation tourne sans contexte graphique.
+ */
+public class HeadlessLoader implements ILoader {
+
+    private static final HeadlessLoader INSTANCE = new HeadlessLoader();
+
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    private HeadlessLoader() {}
+
+    public static HeadlessLoader getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Model loadModel(float[] vertices, float[] textureCoords, int[] indices) {
+        return new Model(nextId.getAndIncrement(), indices.length);
+    }
+
+    @Override
+    public int loadTexture(String filename) {
+        return nextId.getAndIncrement();
+    }
+
+    @Override
+    public int createDefaultTexture() {
+        return nextId.getAndIncrement();
+    }
+
+    @Override
+    public TextureRegion[] loadAtlas(String[] filenames) {
+        Texture atlas = new Texture(nextId.getAndIncrement());
+        TextureRegion[] regions = new TextureRegion[filenames.length];
+        for (int i = 0; i < filenames.length; i++) {
+            regions[i] = new TextureRegion(atlas, 0.0f, 1.0f, 1.0f, 0.0f);
+        }
+        return regions;
+    }
+
+    @Override
+    public long getTextureBytes(int textureId) {
+        return 0;
+    }
+
+    @Override
+    public void deleteTexture(int textureId) {
+        // Pas de texture réelle
+    }
+
+    @Override
+    public void deleteModel(Model model) {
+        // Pas de VAO réel
+    }
+
+    @Override
+    public void cleanup() {
+        // Rien à libérer
+    }
+}
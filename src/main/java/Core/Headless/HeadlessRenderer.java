@@ -0,0 +1,55 @@
+package Core.Headless;
+
+import Core.Entities.Camera;
+import Core.Entities.Model;
+import Core.Entities.Texture;
+import Core.World.WorldSnapshot;
+import Core.IRenderer;
+import org.joml.Vector3f;
+
+/**
+ * Renderer vide utilisé en mode headless.
+ */
+public class HeadlessRenderer implements IRenderer {
+
+    @Override
+    public void init() {
+        // Pas de shader à compiler
+    }
+
+    @Override
+    public void setCamera(Camera camera) {
+        // Pas de rendu
+    }
+
+    @Override
+    public void render(Model model, Vector3f position) {
+        // Pas de rendu
+    }
+
+    @Override
+    public void begin() {
+        // Pas de rendu
+    }
+
+    @Override
+    public void drawSprite(Texture texture, float x, float y, float z, float width, float height,
+                           float u0, float v0, float u1, float v1) {
+        // Pas de rendu
+    }
+
+    @Override
+    public void end() {
+        // Pas de rendu
+    }
+
+    @Override
+    public void renderPlatforms(Texture texture, WorldSnapshot snapshot) {
+        // Pas de rendu
+    }
+
+    @Override
+    public void cleanup() {
+        // Rien à libérer
+    }
+}
@@ -0,0 +1,31 @@
+package Core;
+
+import Core.Entities.Model;
+import Core.Entities.TextureRegion;
+
+/**
+ * Chargement des ressources (modèles et textures).
+ * Implémenté par {@link ObjectLoader} (OpenGL) et par le chargeur headless.
+ */
+public interface ILoader {
+
+    Model loadModel(float[] vertices, float[] textureCoords, int[] indices);
+
+    int loadTexture(String filename) throws Exception;
+
+    int createDefaultTexture();
+
+    // ✅ Regroupe plusieurs images dans une seule texture ; une région par chemin, dans l'ordre
+    TextureRegion[] loadAtlas(String[] filenames);
+
+    // Mémoire GPU occupée par une texture (0 si inconnue)
+    long getTextureBytes(int textureId);
+
+    // ✅ Suppression différée (appelable depuis n'importe quel thread)
+    void deleteTexture(int textureId);
+
+    void deleteModel(Model model);
+
+    void cleanup();
+
+}
@@ -0,0 +1,37 @@
+package Core;
+
+import Core.Entities.Camera;
+import Core.Entities.Model;
+import Core.Entities.Texture;
+import Core.World.WorldSnapshot;
+import org.joml.Vector3f;
+
+/**
+ * Rendu d'un modèle à une position donnée.
+ * Implémenté par {@link RenderManager} (OpenGL) et par le renderer headless.
+ */
+public interface IRenderer {
+
+    void init() throws Exception;
+
+    // ✅ Matrices caméra de la frame, partagées par tous les shaders (une fois par frame)
+    void setCamera(Camera camera);
+
+    void render(Model model, Vector3f position);
+
+    // ✅ Rendu groupé : begin, drawSprite pour chaque quad, puis end
+    void begin();
+
+    // Quad centré en (x, y, z) ; (u0, v0) = coin bas gauche, (u1, v1) = coin haut droit
+    void drawSprite(Texture texture, float x, float y, float z, float width, float height,
+                    float u0, float v0, float u1, float v1);
+
+    void end();
+
+    // ✅ Plateformes : un maillage statique par chunk du snapshot, envoyé une seule fois,
+    // libéré quand le chunk disparaît du snapshot ; un draw par chunk
+    void renderPlatforms(Texture texture, WorldSnapshot snapshot);
+
+    void cleanup();
+
+}
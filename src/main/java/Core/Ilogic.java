@@ -8,6 +8,12 @@ public interface Ilogic {
 
     void update();
 
+    // ✅ Fige l'état pour le rendu, une fois par lot de ticks (thread de simulation)
+    default void publish() {}
+
+    // ✅ Choisit le snapshot rendu jusqu'au prochain appel (thread de rendu, simulation à l'arrêt)
+    default void latchSnapshot() {}
+
     void render();
 
     void cleanup();
@@ -0,0 +1,130 @@
+package Core;
+
+import org.lwjgl.PointerBuffer;
+import org.lwjgl.opengl.EXTTextureCompressionS3TC;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL42;
+import org.lwjgl.opengl.GLCapabilities;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+import org.lwjgl.util.ktx.ktxTexture;
+import org.lwjgl.util.ktx.ktxTexture2;
+
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.util.ktx.KTX.*;
+
+/**
+ * Texture KTX2 précalculée par {@code Tools.TextureBaker} : mipmaps inclus, éventuellement
+ * compressée (Basis). La lecture et le transcodage vers un format GPU se font hors du
+ * thread GL ; l'envoi copie chaque niveau tel quel, sans décodage PNG.
+ */
+public final class KtxImage implements UploadableImage {
+
+    public static final String EXTENSION = ".ktx2";
+
+    // Formats Vulkan écrits par le baker ou produits par le transcodage
+    private static final int VK_FORMAT_R8G8B8A8_UNORM = 37;
+    private static final int VK_FORMAT_BC3_UNORM_BLOCK = 137;
+    private static final int VK_FORMAT_BC7_UNORM_BLOCK = 145;
+
+    // Choisi une fois sur le thread GL, selon ce que le pilote sait décompresser
+    private static volatile int transcodeTarget = KTX_TTF_RGBA32;
+
+    private final ktxTexture2 texture;
+
+    private KtxImage(ktxTexture2 texture) {
+        this.texture = texture;
+    }
+
+    // ✅ Thread GL, après la création du contexte
+    public static void selectTranscodeTarget(GLCapabilities caps) {
+        if (caps.GL_ARB_texture_compression_bptc) {
+            transcodeTarget = KTX_TTF_BC7_RGBA;
+        } else if (caps.GL_EXT_texture_compression_s3tc) {
+            transcodeTarget = KTX_TTF_BC3_RGBA;
+        } else {
+            transcodeTarget = KTX_TTF_RGBA32;
+        }
+    }
+
+    // Fichier "nom.ktx2" à côté de "nom.png" (archive ou disque), ou null s'il n'a pas été généré
+    public static String bakedPath(String filename) {
+        if (filename.endsWith(EXTENSION)) return filename;
+        int dot = filename.lastIndexOf('.');
+        String baked = (dot > 0 ? filename.substring(0, dot) : filename) + EXTENSION;
+        return AssetArchive.exists(baked) ? baked : null;
+    }
+
+    public static KtxImage read(String filename) throws Exception {
+        ktxTexture2 texture;
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            PointerBuffer out = stack.mallocPointer(1);
+            ByteBuffer packed = AssetArchive.read(filename);
+            int result = packed != null
+                    ? ktxTexture2_CreateFromMemory(packed, KTX_TEXTURE_CREATE_LOAD_IMAGE_DATA_BIT, out)
+                    : ktxTexture2_CreateFromNamedFile(AssetArchive.fileOf(filename), KTX_TEXTURE_CREATE_LOAD_IMAGE_DATA_BIT, out);
+            if (result != KTX_SUCCESS) {
+                throw new Exception("Could not load file " + filename + " " + ktxErrorString(result));
+            }
+            texture = ktxTexture2.create(out.get(0));
+        }
+
+        if (ktxTexture2_NeedsTranscoding(texture)) {
+            int result = ktxTexture2_TranscodeBasis(texture, transcodeTarget, 0);
+            if (result != KTX_SUCCESS) {
+                ktxTexture_Destroy(base(texture));
+                throw new Exception("Could not transcode " + filename + " " + ktxErrorString(result));
+            }
+        }
+        return new KtxImage(texture);
+    }
+
+    private static ktxTexture base(ktxTexture2 texture) {
+        return ktxTexture.create(texture.address());
+    }
+
+    public int getWidth() { return texture.baseWidth(); }
+    public int getHeight() { return texture.baseHeight(); }
+    public int getLevelCount() { return texture.numLevels(); }
+
+    // Format interne GL du contenu, 0 si le pilote ne sait pas l'utiliser
+    public int getGlFormat() {
+        return switch (texture.vkFormat()) {
+            case VK_FORMAT_R8G8B8A8_UNORM -> GL11.GL_RGBA8;
+            case VK_FORMAT_BC7_UNORM_BLOCK -> GL42.GL_COMPRESSED_RGBA_BPTC_UNORM;
+            case VK_FORMAT_BC3_UNORM_BLOCK -> EXTTextureCompressionS3TC.GL_COMPRESSED_RGBA_S3TC_DXT5_EXT;
+            default -> 0;
+        };
+    }
+
+    public boolean isCompressed() {
+        return texture.vkFormat() != VK_FORMAT_R8G8B8A8_UNORM;
+    }
+
+    // ✅ Données d'un niveau de mipmap (vue sur la mémoire de la texture, sans copie)
+    public ByteBuffer getLevel(int level) {
+        ktxTexture base = base(texture);
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            PointerBuffer offset = stack.mallocPointer(1);
+            ktxTexture_GetImageOffset(base, level, 0, 0, offset);
+            long size = ktxTexture_GetImageSize(base, level);
+            return MemoryUtil.memByteBuffer(MemoryUtil.memAddress(ktxTexture_GetData(base)) + offset.get(0), (int) size);
+        }
+    }
+
+    @Override
+    public long getByteSize() {
+        return ktxTexture_GetDataSize(base(texture));
+    }
+
+    @Override
+    public int upload(ObjectLoader loader) {
+        return loader.uploadKtx(this);
+    }
+
+    @Override
+    public void free() {
+        ktxTexture_Destroy(base(texture));
+    }
+}
@@ -0,0 +1,13 @@
+package Core.Logging;
+
+/**
+ * Catégories de messages, filtrables séparément ({@link Log#setLevel(Category, Log.Level)}).
+ */
+public enum Category {
+    ENGINE,     // Boucle principale, threads, cadence
+    RENDER,     // Shaders, rendu, fenêtre
+    RESOURCES,  // Chargement de modèles et textures
+    WORLD,      // Plateformes et génération
+    PLAYER,     // Joueur, animations, collisions
+    GAME        // Logique de jeu (TestGame, Main)
+}
@@ -0,0 +1,316 @@
+package Core.Logging;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Journal asynchrone, remplaçant les System.out des chemins critiques.
+ * <p>
+ * Usage : {@code Log.atInfo(Category.WORLD).arg(count).log("🔨 %d plateformes ajoutées");}
+ * <p>
+ * Un niveau désactivé ne coûte qu'une comparaison. Un message actif est copié sans
+ * allocation dans un tampon circulaire sans verrou (plusieurs producteurs, un consommateur) ;
+ * le thread "Logger" le formate et l'écrit sur la console et, si configuré, dans un fichier.
+ * Si le tampon est plein le message est abandonné et compté.
+ */
+public final class Log {
+
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    private static final int CAPACITY = 4096; // Puissance de 2
+    private static final int MASK = CAPACITY - 1;
+    private static final long IDLE_PARK_NS = 2_000_000L;
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final int[] thresholds = new int[CATEGORIES.length];
+
+    // ✅ Tampon circulaire : head = prochain slot à réserver, tail = prochain slot à écrire
+    private static final Slot[] slots = new Slot[CAPACITY];
+    private static final AtomicLong head = new AtomicLong();
+    private static final AtomicLong tail = new AtomicLong();
+    private static final AtomicLong dropped = new AtomicLong();
+
+    private static final ThreadLocal<LogRecord> records = ThreadLocal.withInitial(() -> new LogRecord(true));
+
+    private static volatile BufferedWriter fileWriter;
+    private static volatile boolean running = true;
+    private static final Thread writerThread;
+
+    static {
+        Arrays.fill(thresholds, Level.INFO.ordinal());
+        for (int i = 0; i < CAPACITY; i++) {
+            slots[i] = new Slot();
+        }
+        writerThread = new Thread(Log::drainLoop, "Logger");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::shutdown, "LoggerShutdown"));
+    }
+
+    private Log() {}
+
+    // ✅ Points d'entrée par niveau
+    public static LogRecord atDebug(Category category) { return at(Level.DEBUG, category); }
+    public static LogRecord atInfo(Category category) { return at(Level.INFO, category); }
+    public static LogRecord atWarn(Category category) { return at(Level.WARN, category); }
+    public static LogRecord atError(Category category) { return at(Level.ERROR, category); }
+
+    public static LogRecord at(Level level, Category category) {
+        if (!isEnabled(level, category)) return LogRecord.DISABLED;
+        return records.get().reset(level, category);
+    }
+
+    public static boolean isEnabled(Level level, Category category) {
+        return level.ordinal() >= thresholds[category.ordinal()];
+    }
+
+    // ✅ Configuration
+    public static void setLevel(Level level) {
+        Arrays.fill(thresholds, level.ordinal());
+    }
+
+    public static void setLevel(Category category, Level level) {
+        thresholds[category.ordinal()] = level.ordinal();
+    }
+
+    // Accepte "debug" (toutes catégories) ou "WORLD:debug"
+    public static void configure(String spec) {
+        for (String part : spec.split(",")) {
+            int colon = part.indexOf(':');
+            if (colon < 0) {
+                setLevel(Level.valueOf(part.trim().toUpperCase()));
+            } else {
+                setLevel(Category.valueOf(part.substring(0, colon).trim().toUpperCase()),
+                        Level.valueOf(part.substring(colon + 1).trim().toUpperCase()));
+            }
+        }
+    }
+
+    public static void setFile(Path path) throws IOException {
+        BufferedWriter previous = fileWriter;
+        fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    public static long getDroppedCount() {
+        return dropped.get();
+    }
+
+    // ✅ Réservation d'un slot puis copie du message (aucune allocation)
+    static void enqueue(LogRecord record, String format) {
+        long seq;
+        do {
+            seq = head.get();
+            if (seq - tail.get() >= CAPACITY) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!head.compareAndSet(seq, seq + 1));
+
+        Slot slot = slots[(int) (seq & MASK)];
+        slot.copyFrom(record, format);
+        slot.publish(seq);
+    }
+
+    // ✅ Attend que tout ce qui a été réservé soit écrit (borné dans le temps)
+    public static void flush() {
+        long target = head.get();
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        while (tail.get() < target && System.nanoTime() < deadline) {
+            LockSupport.unpark(writerThread);
+            Thread.onSpinWait();
+        }
+    }
+
+    public static void shutdown() {
+        if (!running) return;
+        flush();
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        BufferedWriter writer = fileWriter;
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException ignored) {
+                // Plus rien pour le signaler
+            }
+        }
+    }
+
+    // ✅ Thread d'écriture
+    private static void drainLoop() {
+        Formatter formatter = new Formatter();
+        long reportedDrops = 0;
+
+        while (running) {
+            boolean wrote = false;
+            long next;
+            Slot slot;
+            while ((slot = slots[(int) ((next = tail.get()) & MASK)]).isPublished(next)) {
+                formatter.write(slot);
+                slot.clear();
+                tail.set(next + 1);
+                wrote = true;
+            }
+
+            long drops = dropped.get();
+            if (drops != reportedDrops) {
+                formatter.writeLine(Level.WARN, "⚠️ " + (drops - reportedDrops) + " messages de log perdus (tampon plein)");
+                reportedDrops = drops;
+                wrote = true;
+            }
+
+            if (wrote) {
+                formatter.flush();
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NS);
+            }
+        }
+    }
+
+    // Slot du tampon : copie à plat d'un LogRecord
+    private static final class Slot {
+        private volatile long sequence = -1;
+
+        Level level;
+        Category category;
+        String format;
+        String threadName;
+        long timeMillis;
+        int argCount;
+        final byte[] kinds = new byte[LogRecord.MAX_ARGS];
+        final long[] longs = new long[LogRecord.MAX_ARGS];
+        final double[] doubles = new double[LogRecord.MAX_ARGS];
+        final Object[] objects = new Object[LogRecord.MAX_ARGS];
+        Throwable cause;
+
+        void copyFrom(LogRecord record, String format) {
+            this.level = record.level;
+            this.category = record.category;
+            this.format = format;
+            this.threadName = Thread.currentThread().getName();
+            this.timeMillis = System.currentTimeMillis();
+            this.argCount = record.argCount;
+            for (int i = 0; i < argCount; i++) {
+                kinds[i] = record.kinds[i];
+                longs[i] = record.longs[i];
+                doubles[i] = record.doubles[i];
+                objects[i] = record.objects[i];
+            }
+            this.cause = record.cause;
+        }
+
+        void publish(long seq) {
+            sequence = seq;
+        }
+
+        boolean isPublished(long seq) {
+            return sequence == seq;
+        }
+
+        void clear() {
+            format = null;
+            threadName = null;
+            cause = null;
+            Arrays.fill(objects, 0, argCount, null);
+        }
+    }
+
+    // Formatage (thread Logger uniquement, les allocations sont acceptées ici)
+    private static final class Formatter {
+        private final Object[] args = new Object[LogRecord.MAX_ARGS];
+        private final StringBuilder line = new StringBuilder(256);
+
+        void write(Slot slot) {
+            String message;
+            if (slot.argCount == 0) {
+                message = slot.format;
+            } else {
+                for (int i = 0; i < slot.argCount; i++) {
+                    args[i] = switch (slot.kinds[i]) {
+                        case LogRecord.KIND_LONG -> slot.longs[i];
+                        case LogRecord.KIND_DOUBLE -> slot.doubles[i];
+                        case LogRecord.KIND_BOOLEAN -> slot.longs[i] != 0;
+                        default -> slot.objects[i];
+                    };
+                }
+                try {
+                    message = String.format(slot.format, Arrays.copyOf(args, slot.argCount));
+                } catch (RuntimeException e) {
+                    message = slot.format + " " + Arrays.toString(Arrays.copyOf(args, slot.argCount));
+                }
+                Arrays.fill(args, null);
+            }
+
+            if (slot.cause != null) {
+                message = message + " : " + slot.cause;
+                if (slot.level == Level.ERROR) {
+                    StringWriter trace = new StringWriter();
+                    slot.cause.printStackTrace(new PrintWriter(trace));
+                    message = message + System.lineSeparator() + trace;
+                }
+            }
+
+            writeConsole(slot.level, message);
+            writeFile(slot.timeMillis, slot.level, slot.category, slot.threadName, message);
+        }
+
+        void writeLine(Level level, String message) {
+            writeConsole(level, message);
+            writeFile(System.currentTimeMillis(), level, Category.ENGINE, "Logger", message);
+        }
+
+        private void writeConsole(Level level, String message) {
+            if (level.ordinal() >= Level.WARN.ordinal()) {
+                System.err.println(message);
+            } else {
+                System.out.println(message);
+            }
+        }
+
+        private void writeFile(long timeMillis, Level level, Category category, String threadName, String message) {
+            BufferedWriter writer = fileWriter;
+            if (writer == null) return;
+            line.setLength(0);
+            line.append(LocalTime.ofInstant(Instant.ofEpochMilli(timeMillis), ZoneId.systemDefault()))
+                    .append(' ').append(level)
+                    .append(" [").append(category).append("] [").append(threadName).append("] ")
+                    .append(message);
+            try {
+                writer.write(line.toString());
+                writer.newLine();
+            } catch (IOException e) {
+                System.err.println("❌ Écriture du log impossible : " + e.getMessage());
+                fileWriter = null;
+            }
+        }
+
+        void flush() {
+            BufferedWriter writer = fileWriter;
+            if (writer == null) return;
+            try {
+                writer.flush();
+            } catch (IOException ignored) {
+                // Signalé au prochain write
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package Core.Logging;
+
+/**
+ * Message en cours de construction, propre à un thread et réutilisé.
+ * Les arguments sont gardés sous forme primitive : le formatage n'a lieu
+ * que sur le thread d'écriture du {@link Log}.
+ */
+public final class LogRecord {
+
+    static final int MAX_ARGS = 6;
+
+    static final byte KIND_LONG = 0;
+    static final byte KIND_DOUBLE = 1;
+    static final byte KIND_BOOLEAN = 2;
+    static final byte KIND_OBJECT = 3;
+
+    // Instance partagée renvoyée quand le niveau est désactivé : tout est ignoré
+    static final LogRecord DISABLED = new LogRecord(false);
+
+    private final boolean active;
+
+    Log.Level level;
+    Category category;
+    int argCount;
+    final byte[] kinds = new byte[MAX_ARGS];
+    final long[] longs = new long[MAX_ARGS];
+    final double[] doubles = new double[MAX_ARGS];
+    final Object[] objects = new Object[MAX_ARGS];
+    Throwable cause;
+
+    LogRecord(boolean active) {
+        this.active = active;
+    }
+
+    LogRecord reset(Log.Level level, Category category) {
+        this.level = level;
+        this.category = category;
+        this.argCount = 0;
+        this.cause = null;
+        return this;
+    }
+
+    public LogRecord arg(long value) {
+        if (active && argCount < MAX_ARGS) {
+            kinds[argCount] = KIND_LONG;
+            longs[argCount++] = value;
+        }
+        return this;
+    }
+
+    public LogRecord arg(double value) {
+        if (active && argCount < MAX_ARGS) {
+            kinds[argCount] = KIND_DOUBLE;
+            doubles[argCount++] = value;
+        }
+        return this;
+    }
+
+    public LogRecord arg(boolean value) {
+        if (active && argCount < MAX_ARGS) {
+            kinds[argCount] = KIND_BOOLEAN;
+            longs[argCount++] = value ? 1 : 0;
+        }
+        return this;
+    }
+
+    public LogRecord arg(Object value) {
+        if (active && argCount < MAX_ARGS) {
+            kinds[argCount] = KIND_OBJECT;
+            objects[argCount++] = value;
+        }
+        return this;
+    }
+
+    // Exception jointe : message et pile écrits après le texte
+    public LogRecord cause(Throwable throwable) {
+        if (active) {
+            this.cause = throwable;
+        }
+        return this;
+    }
+
+    // ✅ Termine le message (format au sens String.format) et le place dans la file
+    public void log(String format) {
+        if (!active) return;
+        Log.enqueue(this, format);
+        for (int i = 0; i < argCount; i++) {
+            objects[i] = null;
+        }
+        cause = null;
+    }
+}
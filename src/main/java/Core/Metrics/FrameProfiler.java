@@ -0,0 +1,90 @@
+package Core.Metrics;
+
+import Core.Logging.Category;
+import Core.Logging.Log;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Mesure de la durée de chaque phase de la boucle de jeu.
+ * Usage : {@code long t = FrameProfiler.begin(); ... FrameProfiler.end(Phase.X, t);}
+ * Chaque phase n'est enregistrée que par un seul thread (rendu ou simulation).
+ */
+public final class FrameProfiler {
+
+    public enum Phase {
+        FRAME,              // Tour de boucle complet, attente du FramePacer comprise
+        INPUT,
+        UPDATE,             // gameLogic.update() (contient PLATFORM_UPDATE)
+        PLATFORM_UPDATE,
+        BACKGROUND_UPDATE,
+        GL_TASKS,
+        RENDER_BACKGROUND,
+        RENDER_WORLD,       // gameLogic.render() : plateformes et joueur
+        SWAP                // window.update() : swap des buffers et événements
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final Histogram[] histograms = new Histogram[PHASES.length];
+
+    static {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new Histogram();
+        }
+    }
+
+    private static volatile boolean enabled = true;
+
+    private FrameProfiler() {}
+
+    public static long begin() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public static void end(Phase phase, long start) {
+        if (start != 0L) {
+            histograms[phase.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    public static Histogram get(Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static void reset() {
+        for (Histogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+    // ✅ Tableau p50/p99/p99.9/max par phase, en millisecondes
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-18s %10s %9s %9s %9s %9s %9s%n",
+                "phase", "count", "mean", "p50", "p99", "p99.9", "max"));
+        for (Phase phase : PHASES) {
+            Histogram h = get(phase);
+            if (h.getCount() == 0) continue;
+            sb.append(String.format("%-18s %10d %9.3f %9.3f %9.3f %9.3f %9.3f%n",
+                    phase, h.getCount(), h.getMean() / 1e6,
+                    h.getPercentile(50) / 1e6, h.getPercentile(99) / 1e6,
+                    h.getPercentile(99.9) / 1e6, h.getMax() / 1e6));
+        }
+        return sb.toString();
+    }
+
+    public static void dump(Path path) {
+        try {
+            Files.writeString(path, report());
+            Log.atInfo(Category.ENGINE).arg(path.toAbsolutePath()).log("📊 Statistiques de frame écrites dans %s");
+        } catch (IOException e) {
+            Log.atError(Category.ENGINE).arg(e.getMessage()).log("❌ Impossible d'écrire les statistiques: %s");
+        }
+    }
+}
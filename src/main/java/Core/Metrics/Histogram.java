@@ -0,0 +1,66 @@
+package Core.Metrics;
+
+import java.util.Arrays;
+
+/**
+ * Histogramme de durées en nanosecondes, à seaux log-linéaires (erreur relative ~3 %).
+ * L'enregistrement n'alloue rien : un calcul d'indice et deux incréments.
+ * Un seul thread écrit ; les lectures depuis un autre thread sont approximatives.
+ */
+public class Histogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_COUNT;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    public void record(long valueNs) {
+        if (valueNs < 0) valueNs = 0;
+        counts[indexOf(valueNs)]++;
+        count++;
+        total += valueNs;
+        if (valueNs > max) max = valueNs;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_COUNT) return (int) value;
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BITS;
+        return (shift + 1) * SUB_COUNT + (int) ((value >>> shift) & (SUB_COUNT - 1));
+    }
+
+    // Plus grande valeur rangée dans le seau
+    private static long upperBoundOf(int index) {
+        if (index < SUB_COUNT) return index;
+        int shift = index / SUB_COUNT - 1;
+        long sub = index % SUB_COUNT;
+        return ((SUB_COUNT + sub + 1) << shift) - 1;
+    }
+
+    // ✅ Valeur au percentile donné (0..100), bornée par le maximum exact
+    public long getPercentile(double percentile) {
+        if (count == 0) return 0;
+        long rank = (long) Math.ceil(percentile / 100.0 * count);
+        if (rank < 1) rank = 1;
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(upperBoundOf(i), max);
+        }
+        return max;
+    }
+
+    public long getCount() { return count; }
+    public long getMax() { return max; }
+    public double getMean() { return count == 0 ? 0.0 : total / (double) count; }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+}
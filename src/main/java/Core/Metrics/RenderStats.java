@@ -0,0 +1,88 @@
+package Core.Metrics;
+
+/**
+ * Compteurs de rendu par frame (thread GL uniquement).
+ * Les valeurs de la frame précédente restent lisibles pendant la frame courante.
+ */
+public final class RenderStats {
+
+    private static int drawCalls;
+    private static int vertices;
+
+    private static int stateChanges;
+    private static int skippedStateChanges;
+
+    // Objets testés contre le champ de la caméra : dessinés / éliminés
+    private static int visible;
+    private static int culled;
+
+    private static int lastDrawCalls;
+    private static int lastVertices;
+    private static int lastStateChanges;
+    private static int lastSkippedStateChanges;
+    private static int lastVisible;
+    private static int lastCulled;
+
+    private RenderStats() {}
+
+    public static void beginFrame() {
+        lastDrawCalls = drawCalls;
+        lastVertices = vertices;
+        lastStateChanges = stateChanges;
+        lastSkippedStateChanges = skippedStateChanges;
+        lastVisible = visible;
+        lastCulled = culled;
+        drawCalls = 0;
+        vertices = 0;
+        stateChanges = 0;
+        skippedStateChanges = 0;
+        visible = 0;
+        culled = 0;
+    }
+
+    public static void drawCall(int vertexCount) {
+        drawCalls++;
+        vertices += vertexCount;
+    }
+
+    // Appels d'état envoyés au pilote / évités par GLState
+    public static void stateChange() {
+        stateChanges++;
+    }
+
+    public static void stateSkipped() {
+        skippedStateChanges++;
+    }
+
+    public static void visible() {
+        visible++;
+    }
+
+    public static void culled() {
+        culled++;
+    }
+
+    public static int getDrawCalls() {
+        return lastDrawCalls;
+    }
+
+    public static int getVertices() {
+        return lastVertices;
+    }
+
+    public static int getStateChanges() {
+        return lastStateChanges;
+    }
+
+    public static int getSkippedStateChanges() {
+        return lastSkippedStateChanges;
+    }
+
+    public static int getVisible() {
+        return lastVisible;
+    }
+
+    public static int getCulled() {
+        return lastCulled;
+    }
+}
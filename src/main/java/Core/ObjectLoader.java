@@ -1,28 +1,39 @@
 package Core;
 
 import Core.Entities.Model;
+import Core.Entities.Texture;
+import Core.Entities.TextureRegion;
+import Core.Logging.Category;
+import Core.Logging.Log;
+import Core.Utils.AtlasPacker;
 import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL12;
+import org.lwjgl.opengl.GL13;
 import org.lwjgl.opengl.GL15;
 import org.lwjgl.opengl.GL20;
+import org.lwjgl.opengl.GL21;
 import org.lwjgl.opengl.GL30;
-import org.lwjgl.stb.STBImage;
-import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
 
 import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
-public class ObjectLoader {
+public class ObjectLoader implements ILoader {
 
     private static volatile ObjectLoader instance;
-    private final Object loadLock = new Object(); // Verrou pour le chargement
 
-    // Liste des ressources pour le cleanup
-    private final List<Integer> vaos = new ArrayList<>();
-    private final List<Integer> vbos = new ArrayList<>();
-    private final List<Integer> textures = new ArrayList<>();
+    // PBO d'envoi des textures
+    private final int[] pixelBuffers = new int[2];
+    private final long[] pixelBufferSizes = new long[2];
+    private int nextPixelBuffer = 0;
+
+    // Ressources vivantes, libérées individuellement (suppression différée) ou au cleanup
+    private final Map<Integer, int[]> modelBuffers = new HashMap<>(); // VAO -> VBOs/IBO du modèle
+    private final Map<Integer, Long> buffers = new HashMap<>();       // ID -> octets
+    private final Map<Integer, Long> textures = new HashMap<>();      // ID -> octets occupés sur le GPU
 
     public ObjectLoader() {} // Constructeur privé
 
@@ -35,75 +46,142 @@ public class ObjectLoader {
     }
 
     // ✅ Méthodes synchronized pour éviter les conflits OpenGL
+    @Override
     public synchronized Model loadModel(float[] vertices, float[] textureCoords, int[] indices) {
         int vao = GL30.glGenVertexArrays();
-        vaos.add(vao);
-        GL30.glBindVertexArray(vao);
+        GpuResources.created(GpuResources.Kind.VERTEX_ARRAY, 0);
+        GLState.bindVertexArray(vao);
 
         // Position buffer
         int posVBO = GL15.glGenBuffers();
-        vbos.add(posVBO);
+        registerBuffer(posVBO, (long) vertices.length * Float.BYTES);
         FloatBuffer posBuffer = org.lwjgl.BufferUtils.createFloatBuffer(vertices.length);
         posBuffer.put(vertices).flip();
         GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, posVBO);
         GL15.glBufferData(GL15.GL_ARRAY_BUFFER, posBuffer, GL15.GL_STATIC_DRAW);
         GL20.glVertexAttribPointer(0, 3, GL11.GL_FLOAT, false, 0, 0);
+        GL20.glEnableVertexAttribArray(0); // Mémorisé par le VAO : plus besoin de le refaire à chaque draw
 
         // Texture coordinates buffer
         int texVBO = GL15.glGenBuffers();
-        vbos.add(texVBO);
+        registerBuffer(texVBO, (long) textureCoords.length * Float.BYTES);
         FloatBuffer texBuffer = org.lwjgl.BufferUtils.createFloatBuffer(textureCoords.length);
         texBuffer.put(textureCoords).flip();
         GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, texVBO);
         GL15.glBufferData(GL15.GL_ARRAY_BUFFER, texBuffer, GL15.GL_STATIC_DRAW);
         GL20.glVertexAttribPointer(1, 2, GL11.GL_FLOAT, false, 0, 0);
+        GL20.glEnableVertexAttribArray(1);
 
         // Index buffer
         int ibo = GL15.glGenBuffers();
-        vbos.add(ibo);
+        registerBuffer(ibo, (long) indices.length * Integer.BYTES);
         IntBuffer indexBuffer = org.lwjgl.BufferUtils.createIntBuffer(indices.length);
         indexBuffer.put(indices).flip();
         GL15.glBindBuffer(GL15.GL_ELEMENT_ARRAY_BUFFER, ibo);
         GL15.glBufferData(GL15.GL_ELEMENT_ARRAY_BUFFER, indexBuffer, GL15.GL_STATIC_DRAW);
 
-        GL30.glBindVertexArray(0);
+        GLState.bindVertexArray(0);
+        modelBuffers.put(vao, new int[]{posVBO, texVBO, ibo});
         return new Model(vao, indices.length);
     }
 
-    public synchronized int loadTexture(String filename) throws Exception {
-        synchronized (loadLock) {
-            int width, height;
-            ByteBuffer buffer;
+    private void registerBuffer(int id, long size) {
+        buffers.put(id, size);
+        GpuResources.created(GpuResources.Kind.BUFFER, size);
+    }
 
-            try (MemoryStack stack = MemoryStack.stackPush()) {
-                IntBuffer w = stack.mallocInt(1);
-                IntBuffer h = stack.mallocInt(1);
-                IntBuffer comp = stack.mallocInt(1);
+    private void registerTexture(int id, long size) {
+        textures.put(id, size);
+        GpuResources.created(GpuResources.Kind.TEXTURE, size);
+    }
 
-                buffer = STBImage.stbi_load(filename, w, h, comp, 4);
-                if (buffer == null) {
-                    throw new Exception("Could not load file " + filename + " " + STBImage.stbi_failure_reason());
-                }
+    // ✅ Décodage hors verrou ; seul l'envoi au GPU est sérialisé. Le .ktx2 précalculé est préféré au PNG
+    @Override
+    public int loadTexture(String filename) throws Exception {
+        UploadableImage image = UploadableImage.read(filename);
+        try {
+            return image.upload(this);
+        } finally {
+            image.free();
+        }
+    }
+
+    // ✅ Texture KTX2 : chaque niveau de mipmap est envoyé tel quel (compressé ou RGBA)
+    public synchronized int uploadKtx(KtxImage image) {
+        int format = image.getGlFormat();
+        if (format == 0) {
+            throw new IllegalStateException("Format KTX2 non supporté par le pilote");
+        }
+
+        int textureID = GL11.glGenTextures();
+        registerTexture(textureID, image.getByteSize());
+        GLState.bindTexture(0, textureID);
+        GL11.glPixelStorei(GL11.GL_UNPACK_ALIGNMENT, 1);
 
-                width = w.get();
-                height = h.get();
+        int levels = image.getLevelCount();
+        for (int level = 0; level < levels; level++) {
+            int width = Math.max(1, image.getWidth() >> level);
+            int height = Math.max(1, image.getHeight() >> level);
+            ByteBuffer data = image.getLevel(level);
+            if (image.isCompressed()) {
+                GL13.glCompressedTexImage2D(GL11.GL_TEXTURE_2D, level, format, width, height, 0, data);
+            } else {
+                GL11.glTexImage2D(GL11.GL_TEXTURE_2D, level, format, width, height, 0, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, data);
             }
+        }
 
-            int textureID = GL11.glGenTextures();
-            textures.add(textureID);
-            GL11.glBindTexture(GL11.GL_TEXTURE_2D, textureID);
-            GL11.glPixelStorei(GL11.GL_UNPACK_ALIGNMENT, 1);
-            GL11.glTexImage2D(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA, width, height, 0, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, buffer);
+        setPixelArtParameters();
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL12.GL_TEXTURE_MAX_LEVEL, levels - 1);
+        if (levels > 1) {
+            // Pixels nets de près, mipmaps de loin
+            GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER, GL11.GL_NEAREST_MIPMAP_LINEAR);
+        }
+        return textureID;
+    }
+
+    // ✅ Envoi via un pixel buffer object (deux PBO en alternance, orphelinés à chaque envoi)
+    public synchronized int uploadTexture(DecodedImage image) {
+        long size = image.getByteSize();
 
-            // Paramètres de filtrage
-            GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER, GL11.GL_NEAREST);
-            GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MAG_FILTER, GL11.GL_NEAREST);
+        int slot = nextPixelBuffer;
+        nextPixelBuffer ^= 1;
+        if (pixelBuffers[slot] == 0) {
+            pixelBuffers[slot] = GL15.glGenBuffers();
+            GpuResources.created(GpuResources.Kind.BUFFER, 0);
+        }
+        GL15.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, pixelBuffers[slot]);
+        GL15.glBufferData(GL21.GL_PIXEL_UNPACK_BUFFER, size, GL15.GL_STREAM_DRAW);
+        GpuResources.resized(GpuResources.Kind.BUFFER, size - pixelBufferSizes[slot]);
+        pixelBufferSizes[slot] = size;
 
-            STBImage.stbi_image_free(buffer);
-            return textureID;
+        ByteBuffer mapped = GL30.glMapBufferRange(GL21.GL_PIXEL_UNPACK_BUFFER, 0, size,
+                GL30.GL_MAP_WRITE_BIT | GL30.GL_MAP_INVALIDATE_BUFFER_BIT);
+        if (mapped != null) {
+            MemoryUtil.memCopy(image.getPixels(), mapped);
+            GL15.glUnmapBuffer(GL21.GL_PIXEL_UNPACK_BUFFER);
         }
+
+        int textureID = GL11.glGenTextures();
+        registerTexture(textureID, size);
+        GLState.bindTexture(0, textureID);
+        GL11.glPixelStorei(GL11.GL_UNPACK_ALIGNMENT, 1);
+        if (mapped != null) {
+            // Lecture depuis le PBO lié (offset 0)
+            GL11.glTexImage2D(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA, image.getWidth(), image.getHeight(), 0,
+                    GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, 0L);
+            GL15.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, 0);
+        } else {
+            GL15.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, 0);
+            GL11.glTexImage2D(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA, image.getWidth(), image.getHeight(), 0,
+                    GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, image.getPixels());
+        }
+
+        // ✅ Filtrage et répétition fixés une fois pour toutes à la création
+        setPixelArtParameters();
+        return textureID;
     }
 
+    @Override
     public synchronized int createDefaultTexture() {
         // Texture 2x2 pixels blancs
         ByteBuffer data = org.lwjgl.BufferUtils.createByteBuffer(16);
@@ -113,22 +191,130 @@ public class ObjectLoader {
         data.flip();
 
         int textureID = GL11.glGenTextures();
-        textures.add(textureID);
-        GL11.glBindTexture(GL11.GL_TEXTURE_2D, textureID);
+        registerTexture(textureID, 2L * 2 * 4);
+        GLState.bindTexture(0, textureID);
         GL11.glTexImage2D(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA, 2, 2, 0, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, data);
 
+        setPixelArtParameters();
+
+        return textureID;
+    }
+
+    // Texture liée : pixels nets, bords non répétés
+    private static void setPixelArtParameters() {
         GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER, GL11.GL_NEAREST);
         GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MAG_FILTER, GL11.GL_NEAREST);
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_S, GL12.GL_CLAMP_TO_EDGE);
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_T, GL12.GL_CLAMP_TO_EDGE);
+    }
 
-        return textureID;
+    @Override
+    public TextureRegion[] loadAtlas(String[] filenames) {
+        int count = filenames.length;
+        int[] widths = new int[count];
+        int[] heights = new int[count];
+
+        // ✅ Décodage en parallèle sur les threads de décodage, une cellule blanche 2x2 si une image manque
+        DecodedImage[] images = AsyncTextureLoader.decodeAll(filenames);
+        for (int i = 0; i < count; i++) {
+            if (images[i] != null) {
+                widths[i] = images[i].getWidth();
+                heights[i] = images[i].getHeight();
+            } else {
+                Log.atWarn(Category.RESOURCES).arg(filenames[i]).log("⚠️ Image d'atlas non chargée %s, cellule blanche");
+                widths[i] = 2;
+                heights[i] = 2;
+            }
+        }
+
+        AtlasPacker.Layout layout = AtlasPacker.pack(widths, heights);
+
+        // Copie ligne par ligne dans l'image de l'atlas (fond transparent)
+        ByteBuffer pixels = MemoryUtil.memCalloc(layout.width * layout.height * 4);
+        for (int i = 0; i < count; i++) {
+            int rowBytes = widths[i] * 4;
+            for (int row = 0; row < heights[i]; row++) {
+                int dst = ((layout.y[i] + row) * layout.width + layout.x[i]) * 4;
+                if (images[i] != null) {
+                    MemoryUtil.memCopy(MemoryUtil.memAddress(images[i].getPixels()) + (long) row * rowBytes,
+                            MemoryUtil.memAddress(pixels) + dst, rowBytes);
+                } else {
+                    for (int b = 0; b < rowBytes; b++) pixels.put(dst + b, (byte) 255);
+                }
+            }
+            if (images[i] != null) images[i].free();
+        }
+
+        int textureID;
+        synchronized (this) {
+            textureID = GL11.glGenTextures();
+            registerTexture(textureID, (long) layout.width * layout.height * 4);
+            GLState.bindTexture(0, textureID);
+            GL11.glPixelStorei(GL11.GL_UNPACK_ALIGNMENT, 1);
+            GL11.glTexImage2D(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA, layout.width, layout.height, 0, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, pixels);
+            setPixelArtParameters();
+        }
+        MemoryUtil.memFree(pixels);
+
+        // Régions : bas de l'image = dernière ligne, d'où v0 > v1
+        Texture atlas = new Texture(textureID);
+        TextureRegion[] regions = new TextureRegion[count];
+        float invWidth = 1.0f / layout.width;
+        float invHeight = 1.0f / layout.height;
+        for (int i = 0; i < count; i++) {
+            regions[i] = new TextureRegion(atlas,
+                    layout.x[i] * invWidth, (layout.y[i] + heights[i]) * invHeight,
+                    (layout.x[i] + widths[i]) * invWidth, layout.y[i] * invHeight);
+        }
+
+        Log.atInfo(Category.RESOURCES).arg(count).arg(layout.width).arg(layout.height)
+                .log("✅ Atlas de %d images créé (%dx%d)");
+        return regions;
     }
 
+    @Override
+    public synchronized long getTextureBytes(int textureId) {
+        return textures.getOrDefault(textureId, 0L);
+    }
+
+    // ✅ Suppressions différées : effectives sur le thread GL quand plus aucune frame ne les utilise
+    @Override
+    public synchronized void deleteTexture(int textureId) {
+        Long size = textures.remove(textureId);
+        if (size != null) {
+            GpuResources.deleteLater(GpuResources.Kind.TEXTURE, textureId, size);
+        }
+    }
+
+    @Override
+    public synchronized void deleteModel(Model model) {
+        int[] modelVbos = modelBuffers.remove(model.getId());
+        if (modelVbos == null) return;
+
+        GpuResources.deleteLater(GpuResources.Kind.VERTEX_ARRAY, model.getId(), 0);
+        for (int vbo : modelVbos) {
+            GpuResources.deleteLater(GpuResources.Kind.BUFFER, vbo, buffers.remove(vbo));
+        }
+    }
+
+    @Override
     public synchronized void cleanup() {
-        vaos.forEach(GL30::glDeleteVertexArrays);
-        vbos.forEach(GL15::glDeleteBuffers);
-        textures.forEach(GL11::glDeleteTextures);
-        vaos.clear();
-        vbos.clear();
+        modelBuffers.keySet().forEach(vao -> GpuResources.deleteLater(GpuResources.Kind.VERTEX_ARRAY, vao, 0));
+        buffers.forEach((id, size) -> GpuResources.deleteLater(GpuResources.Kind.BUFFER, id, size));
+        textures.forEach((id, size) -> GpuResources.deleteLater(GpuResources.Kind.TEXTURE, id, size));
+        modelBuffers.clear();
+        buffers.clear();
         textures.clear();
+
+        for (int slot = 0; slot < pixelBuffers.length; slot++) {
+            if (pixelBuffers[slot] != 0) {
+                GpuResources.deleteLater(GpuResources.Kind.BUFFER, pixelBuffers[slot], pixelBufferSizes[slot]);
+                pixelBuffers[slot] = 0;
+                pixelBufferSizes[slot] = 0;
+            }
+        }
+
+        GpuResources.deleteAllNow();
+        GLState.invalidate();
     }
 }
\ No newline at end of file
@@ -0,0 +1,232 @@
+package Core;
+
+import Core.Entities.Camera;
+import Core.Entities.Texture;
+import Core.Metrics.RenderStats;
+import Core.Utils.Utils;
+import Core.World.WorldSnapshot;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL20;
+import org.lwjgl.opengl.GL30;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rendu des plateformes par chunk : chaque chunk arrive du snapshot avec son maillage
+ * statique déjà construit (4 sommets par plateforme, coordonnées monde), envoyé au GPU
+ * une seule fois par une tâche HIGH de {@link GLTaskQueue} puis dessiné en un seul
+ * glDrawElements. Tous les chunks partagent un buffer d'indices de quads.
+ * Le maillage d'un chunk absent du snapshot (déchargé) est libéré.
+ * Le nombre de draws suit le nombre de chunks visibles, pas la densité des plateformes :
+ * la boîte englobante de chaque chunk est testée contre le frustum de la caméra.
+ */
+public class PlatformRenderer {
+
+    // x, y, z, u, v, couche de texture
+    public static final int FLOATS_PER_VERTEX = 6;
+    private static final int STRIDE = FLOATS_PER_VERTEX * Float.BYTES;
+    private static final int VERTICES_PER_QUAD = 4;
+    private static final int INDICES_PER_QUAD = 6;
+
+    private ShaderManager shader;
+    private int textureSampleLocation;
+
+    // ✅ Indices partagés (0, 1, 2, 2, 3, 0) décalés de 4 par quad, agrandis au besoin
+    private int quadIbo;
+    private int quadCapacity = 0;
+
+    // Maillage GPU d'un chunk ; source = tableau figé du chunk (identité = version du chunk)
+    private static final class ChunkMesh {
+        final int chunkIndex;
+        final float[] source;
+        final int quadCount;
+        final float minX, minY, maxX, maxY, depth; // Boîte englobante, pour l'élimination hors champ
+        int vao, vbo;
+        boolean ready, released, seen;
+
+        ChunkMesh(int chunkIndex, float[] source, float minX, float minY, float maxX, float maxY) {
+            this.chunkIndex = chunkIndex;
+            this.source = source;
+            this.quadCount = source.length / (VERTICES_PER_QUAD * FLOATS_PER_VERTEX);
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.depth = source[2]; // Toutes les plateformes d'un chunk à la même profondeur
+        }
+    }
+
+    private final List<ChunkMesh> meshes = new ArrayList<>(); // Thread GL
+    private long syncedRevision = -1;
+    private long meshesBuilt = 0;
+
+    public void init() throws Exception {
+        shader = new ShaderManager();
+        shader.createVertexShader(Utils.loadRessource("/shaders/platform.vs.glsl"));
+        shader.createFragmentShader(Utils.loadRessource("/shaders/platform.fs.glsl"));
+        shader.link();
+
+        textureSampleLocation = shader.createUniform("textureSample");
+        shader.bindUniformBlock(CameraBuffer.BLOCK_NAME, CameraBuffer.BINDING);
+
+        quadIbo = GL15.glGenBuffers();
+        GpuResources.created(GpuResources.Kind.BUFFER, 0);
+        ensureQuadCapacity(64);
+    }
+
+    private void ensureQuadCapacity(int quads) {
+        if (quads <= quadCapacity) return;
+
+        int capacity = Math.max(quads, quadCapacity * 2);
+        int[] indices = new int[capacity * INDICES_PER_QUAD];
+        for (int q = 0, i = 0; q < capacity; q++) {
+            int base = q * VERTICES_PER_QUAD;
+            indices[i++] = base;
+            indices[i++] = base + 1;
+            indices[i++] = base + 2;
+            indices[i++] = base + 2;
+            indices[i++] = base + 3;
+            indices[i++] = base;
+        }
+
+        // Aucun VAO lié : la liaison GL_ELEMENT_ARRAY_BUFFER ferait partie de son état.
+        // Les VAO existants gardent le même nom de buffer, avec le nouveau contenu
+        GLState.bindVertexArray(0);
+        GL15.glBindBuffer(GL15.GL_ELEMENT_ARRAY_BUFFER, quadIbo);
+        GL15.glBufferData(GL15.GL_ELEMENT_ARRAY_BUFFER, indices, GL15.GL_STATIC_DRAW);
+        GL15.glBindBuffer(GL15.GL_ELEMENT_ARRAY_BUFFER, 0);
+        GpuResources.resized(GpuResources.Kind.BUFFER, (long) (capacity - quadCapacity) * INDICES_PER_QUAD * Integer.BYTES);
+        quadCapacity = capacity;
+    }
+
+    // ✅ Aligne les maillages sur les chunks du snapshot, seulement si la révision a changé
+    private void sync(WorldSnapshot snapshot) {
+        if (snapshot.getPlatformRevision() == syncedRevision) return;
+        syncedRevision = snapshot.getPlatformRevision();
+
+        for (ChunkMesh mesh : meshes) {
+            mesh.seen = false;
+        }
+        for (int i = 0; i < snapshot.getChunkCount(); i++) {
+            int chunkIndex = snapshot.getChunkIndex(i);
+            float[] vertices = snapshot.getChunkVertices(i);
+            ChunkMesh mesh = find(chunkIndex);
+            if (mesh != null && mesh.source == vertices) {
+                mesh.seen = true;
+                continue;
+            }
+            // Nouveau chunk, ou chunk régénéré depuis : nouveau maillage
+            if (vertices.length == 0) continue;
+            ChunkMesh created = new ChunkMesh(chunkIndex, vertices, snapshot.getChunkMinX(i),
+                    snapshot.getChunkMinY(i), snapshot.getChunkMaxX(i), snapshot.getChunkMaxY(i));
+            created.seen = true;
+            meshes.add(created);
+            GLTaskQueue.submit(GLTaskQueue.Priority.HIGH, () -> upload(created));
+        }
+
+        // Chunks déchargés (ou remplacés) : maillage libéré
+        for (int i = meshes.size() - 1; i >= 0; i--) {
+            ChunkMesh mesh = meshes.get(i);
+            if (!mesh.seen) {
+                release(mesh);
+                int last = meshes.size() - 1;
+                meshes.set(i, meshes.get(last));
+                meshes.remove(last);
+            }
+        }
+    }
+
+    private ChunkMesh find(int chunkIndex) {
+        for (int i = 0; i < meshes.size(); i++) {
+            ChunkMesh mesh = meshes.get(i);
+            if (mesh.chunkIndex == chunkIndex && !mesh.seen) return mesh;
+        }
+        return null;
+    }
+
+    // ✅ Tâche GL : envoi unique du maillage figé
+    private void upload(ChunkMesh mesh) {
+        if (mesh.released) return; // Déchargé avant d'avoir été envoyé
+
+        ensureQuadCapacity(mesh.quadCount);
+
+        mesh.vao = GL30.glGenVertexArrays();
+        GLState.bindVertexArray(mesh.vao);
+
+        mesh.vbo = GL15.glGenBuffers();
+        GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, mesh.vbo);
+        GL15.glBufferData(GL15.GL_ARRAY_BUFFER, mesh.source, GL15.GL_STATIC_DRAW);
+        GL20.glVertexAttribPointer(0, 3, GL11.GL_FLOAT, false, STRIDE, 0);
+        GL20.glVertexAttribPointer(1, 2, GL11.GL_FLOAT, false, STRIDE, 3 * Float.BYTES);
+        GL20.glVertexAttribPointer(2, 1, GL11.GL_FLOAT, false, STRIDE, 5 * Float.BYTES);
+        for (int attribute = 0; attribute <= 2; attribute++) {
+            GL20.glEnableVertexAttribArray(attribute);
+        }
+        GL15.glBindBuffer(GL15.GL_ELEMENT_ARRAY_BUFFER, quadIbo);
+
+        GLState.bindVertexArray(0);
+        GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, 0);
+
+        GpuResources.created(GpuResources.Kind.VERTEX_ARRAY, 0);
+        GpuResources.created(GpuResources.Kind.BUFFER, (long) mesh.source.length * Float.BYTES);
+        mesh.ready = true;
+        meshesBuilt++;
+    }
+
+    private void release(ChunkMesh mesh) {
+        mesh.released = true;
+        if (!mesh.ready) return;
+        mesh.ready = false;
+        GpuResources.deleteLater(GpuResources.Kind.BUFFER, mesh.vbo, (long) mesh.source.length * Float.BYTES);
+        GpuResources.deleteLater(GpuResources.Kind.VERTEX_ARRAY, mesh.vao, 0);
+    }
+
+    // Matrices caméra lues dans le CameraBuffer ; camera sert seulement à l'élimination (null : tout dessiner)
+    public void render(Texture texture, WorldSnapshot snapshot, Camera camera) {
+        sync(snapshot);
+        if (meshes.isEmpty()) return;
+
+        boolean bound = false;
+        for (int i = 0; i < meshes.size(); i++) {
+            ChunkMesh mesh = meshes.get(i);
+            if (!mesh.ready) continue; // Envoi encore en file
+            if (camera != null && !camera.isVisible(mesh.minX, mesh.minY, mesh.depth, mesh.maxX, mesh.maxY, mesh.depth)) {
+                RenderStats.culled();
+                continue;
+            }
+            RenderStats.visible();
+            if (!bound) {
+                bind(texture);
+                bound = true;
+            }
+            GLState.bindVertexArray(mesh.vao);
+            GL11.glDrawElements(GL11.GL_TRIANGLES, mesh.quadCount * INDICES_PER_QUAD, GL11.GL_UNSIGNED_INT, 0);
+            RenderStats.drawCall(mesh.quadCount * VERTICES_PER_QUAD);
+        }
+    }
+
+    private void bind(Texture texture) {
+        shader.bind();
+        shader.setUniform(textureSampleLocation, 0);
+
+        GLState.bindTexture(0, texture != null ? texture.getId() : 0);
+        GLState.enable(GL11.GL_BLEND);
+        GLState.blendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    public int getMeshCount() { return meshes.size(); }
+    public long getMeshesBuilt() { return meshesBuilt; }
+
+    public void cleanup() {
+        for (ChunkMesh mesh : meshes) {
+            release(mesh);
+        }
+        meshes.clear();
+        GpuResources.deleteLater(GpuResources.Kind.BUFFER, quadIbo, (long) quadCapacity * INDICES_PER_QUAD * Integer.BYTES);
+        if (shader != null) {
+            shader.cleanup();
+        }
+    }
+}
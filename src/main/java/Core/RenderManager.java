@@ -2,97 +2,144 @@ package Core;
 
 import Core.Entities.Camera;
 import Core.Entities.Model;
+import Core.Entities.Texture;
+import Core.Logging.Category;
+import Core.Logging.Log;
+import Core.Metrics.RenderStats;
 import Core.Utils.Utils;
+import Core.World.WorldSnapshot;
 import Laucher.Main;
 import Render.Window;
 
 import org.joml.Matrix4f;
 import org.joml.Vector3f;
 import org.lwjgl.opengl.GL11;
-import org.lwjgl.opengl.GL13;
-import org.lwjgl.opengl.GL20;
-import org.lwjgl.opengl.GL30;
 
-public class RenderManager {
+public class RenderManager implements IRenderer {
 
     public final Window window;
     private ShaderManager shader;
 
+    // ✅ Handles résolus une fois à l'init
+    private int textureSampleLocation;
+    private int transformationLocation;
+    private final Matrix4f transformationMatrix = new Matrix4f();
+
+    // ✅ Matrices caméra partagées par tous les programmes (bloc Camera)
+    private final CameraBuffer cameraBuffer = new CameraBuffer();
+
+    // ✅ Sprites de la frame regroupés par texture
+    private final SpriteBatch batch = new SpriteBatch();
+    private final Matrix4f identity = new Matrix4f();
+
+    // ✅ Plateformes : un maillage statique et un draw par chunk visible
+    private final PlatformRenderer platformRenderer = new PlatformRenderer();
+
+    // Caméra de la frame (interpolée), pour éliminer ce qui est hors champ
+    private Camera camera;
+
     public RenderManager() {
         window = Main.getWindow();
     }
 
+    @Override
     public void init() throws Exception {
         shader = new ShaderManager();
 
-        shader.createVertexShader(Utils.loadRessource("/shaders/vertex.vs.glsl"));
-        shader.createFragmentShader(Utils.loadRessource("/shaders/fragment.fs.glsl"));
+        shader.createVertexShader(Utils.loadRessource("/shaders/sprite.vs.glsl"));
+        shader.createFragmentShader(Utils.loadRessource("/shaders/sprite.fs.glsl"));
         shader.link();
 
-        shader.createUniform("textureSample");
-        shader.createUniform("transformationMatrix");
-        // ✅ AJOUTER ces uniforms pour la caméra
-        shader.createUniform("viewMatrix");
-        shader.createUniform("projectionMatrix");
+        textureSampleLocation = shader.createUniform("textureSample");
+        transformationLocation = shader.createUniform("transformationMatrix");
+        shader.bindUniformBlock(CameraBuffer.BLOCK_NAME, CameraBuffer.BINDING);
+
+        cameraBuffer.init();
+        batch.init();
+        platformRenderer.init();
     }
 
-    public void render(Model model, Vector3f position, Camera camera) {
+    @Override
+    public void setCamera(Camera camera) {
+        cameraBuffer.update(camera);
+        this.camera = camera;
+    }
+
+    @Override
+    public void render(Model model, Vector3f position) {
         if (model == null) {
-            System.err.println("❌ Tentative de rendu d'un modèle null !");
+            Log.atError(Category.RENDER).log("❌ Tentative de rendu d'un modèle null !");
             return;
         }
 
         shader.bind();
 
-        // ✅ Utiliser les matrices de la caméra
-        if (camera != null) {
-            shader.setUniform("viewMatrix", camera.getViewMatrix());
-            shader.setUniform("projectionMatrix", camera.getProjectionMatrix());
-        }
-
-        // Matrice de transformation locale
-        Matrix4f transformationMatrix = new Matrix4f().identity();
-        transformationMatrix.translate(position);
-        shader.setUniform("transformationMatrix", transformationMatrix);
+        // Matrice de transformation locale (caméra : CameraBuffer)
+        shader.setUniform(transformationLocation, transformationMatrix.translation(position));
 
-        // Bind du VAO
-        GL30.glBindVertexArray(model.getId());
-        GL20.glEnableVertexAttribArray(0); // Position
-        GL20.glEnableVertexAttribArray(1); // Texture coordinates
+        // ✅ VAO (attributs déjà activés à la création) et texture via le cache d'état
+        GLState.bindVertexArray(model.getId());
 
-        // Gestion de la texture
+        // Filtrage et répétition fixés à la création de la texture
         if (model.getTexture() != null) {
-            GL13.glActiveTexture(GL13.GL_TEXTURE0);
-            GL11.glBindTexture(GL11.GL_TEXTURE_2D, model.getTexture().getId());
-
-            GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER, GL11.GL_NEAREST);
-            GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MAG_FILTER, GL11.GL_NEAREST);
-            GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_S, GL11.GL_CLAMP);
-            GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_T, GL11.GL_CLAMP);
-
-            shader.setUniform("textureSample", 0);
+            GLState.bindTexture(0, model.getTexture().getId());
+            shader.setUniform(textureSampleLocation, 0);
         } else {
-            System.out.println("⚠️ Pas de texture - rendu avec couleur par défaut");
-            GL13.glActiveTexture(GL13.GL_TEXTURE0);
-            GL11.glBindTexture(GL11.GL_TEXTURE_2D, 0);
+            Log.atDebug(Category.RENDER).log("⚠️ Pas de texture - rendu avec couleur par défaut");
+            GLState.bindTexture(0, 0);
         }
 
         // Activer le blending pour la transparence
-        GL11.glEnable(GL11.GL_BLEND);
-        GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+        GLState.enable(GL11.GL_BLEND);
+        GLState.blendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
 
         // Rendu des triangles
         GL11.glDrawElements(GL11.GL_TRIANGLES, model.getVertexCount(), GL11.GL_UNSIGNED_INT, 0);
+        RenderStats.drawCall(model.getVertexCount());
+    }
+
+    @Override
+    public void begin() {
+        shader.bind();
+
+        // Les sommets du batch sont déjà en coordonnées monde
+        shader.setUniform(transformationLocation, identity);
+        shader.setUniform(textureSampleLocation, 0);
+
+        GLState.enable(GL11.GL_BLEND);
+        GLState.blendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    @Override
+    public void drawSprite(Texture texture, float x, float y, float z, float width, float height,
+                           float u0, float v0, float u1, float v1) {
+        // ✅ Hors du champ de la caméra : rien à envoyer
+        if (camera != null && !camera.isVisible(x - width / 2, y - height / 2, z, x + width / 2, y + height / 2, z)) {
+            RenderStats.culled();
+            return;
+        }
+        RenderStats.visible();
+        if (batch.isFull()) {
+            batch.flush();
+        }
+        batch.add(texture, x, y, z, width, height, u0, v0, u1, v1);
+    }
+
+    @Override
+    public void end() {
+        batch.flush();
+    }
 
-        // Cleanup
-        GL20.glDisableVertexAttribArray(0);
-        GL20.glDisableVertexAttribArray(1);
-        GL30.glBindVertexArray(0);
-        GL11.glBindTexture(GL11.GL_TEXTURE_2D, 0);
-        shader.unbind();
+    @Override
+    public void renderPlatforms(Texture texture, WorldSnapshot snapshot) {
+        platformRenderer.render(texture, snapshot, camera);
     }
 
+    @Override
     public void cleanup() {
+        batch.cleanup();
+        platformRenderer.cleanup();
+        cameraBuffer.cleanup();
         if (shader != null) {
             shader.cleanup();
         }
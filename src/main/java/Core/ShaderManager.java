@@ -1,10 +1,12 @@
 package Core;
 
+import Core.Logging.Category;
+import Core.Logging.Log;
 import org.joml.Matrix4f;
 import org.lwjgl.opengl.GL20;
+import org.lwjgl.opengl.GL31;
 import org.lwjgl.system.MemoryStack;
 
-import java.nio.FloatBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -21,56 +23,78 @@ public class ShaderManager {
         uniforms = new HashMap<>();
     }
 
-    public void createUniform(String uniformName) {
+    // ✅ Résout la location une fois ; le handle retourné sert aux mises à jour par objet
+    public int createUniform(String uniformName) {
         int uniformLocation = GL20.glGetUniformLocation(programID, uniformName);
         if(uniformLocation < 0) {
             // 🔧 FIX 1: Warning au lieu d'exception pour les uniforms optionnels
-            System.out.println("⚠️ Uniform '" + uniformName + "' non trouvé dans le shader (peut être optimisé par le compilateur)");
+            Log.atWarn(Category.RENDER).arg(uniformName).log("⚠️ Uniform '%s' non trouvé dans le shader (peut être optimisé par le compilateur)");
             // Pour les uniforms critiques, vous pouvez décommenter la ligne suivante :
             // throw new Exception("Couldn't find uniform " + uniformName);
         }
         uniforms.put(uniformName, uniformLocation);
+        return uniformLocation;
+    }
+
+    // ✅ Relie un bloc uniform (ex. Camera) à un point de liaison partagé entre programmes
+    public void bindUniformBlock(String blockName, int binding) {
+        int blockIndex = GL31.glGetUniformBlockIndex(programID, blockName);
+        if (blockIndex == GL31.GL_INVALID_INDEX) {
+            Log.atWarn(Category.RENDER).arg(blockName).log("⚠️ Bloc uniform '%s' non trouvé dans le shader");
+            return;
+        }
+        GL31.glUniformBlockBinding(programID, blockIndex, binding);
     }
 
     // 🔧 FIX 2: Vérification de l'existence de l'uniform avant utilisation
-    private boolean hasUniform(String uniformName) {
+    private int locationOf(String uniformName) {
         Integer location = uniforms.get(uniformName);
-        return location != null && location >= 0;
+        if (location == null || location < 0) {
+            Log.atWarn(Category.RENDER).arg(uniformName).log("⚠️ Tentative d'utilisation d'uniform inexistant: %s");
+            return -1;
+        }
+        return location;
     }
 
-    public void setUniforms(String uniformName, Matrix4f value) {
-        if (hasUniform(uniformName)) {
-            System.out.println("⚠️ Tentative d'utilisation d'uniform inexistant: " + uniformName);
-            return;
-        }
-        try(MemoryStack stack = MemoryStack.stackPush()) {
-            GL20.glUniformMatrix4fv(uniforms.get(uniformName), false, value.get(stack.mallocFloat(16)));
+    // ✅ Mises à jour par handle : ni HashMap ni hachage de chaîne (une location -1 est ignorée par GL)
+    public void setUniform(int location, Matrix4f matrix) {
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            GL20.glUniformMatrix4fv(location, false, matrix.get(stack.mallocFloat(16)));
         }
     }
 
+    public void setUniform(int location, float value) {
+        GL20.glUniform1f(location, value);
+    }
+
+    public void setUniform(int location, float x, float y) {
+        GL20.glUniform2f(location, x, y);
+    }
+
+    public void setUniform(int location, int value) {
+        GL20.glUniform1i(location, value);
+    }
+
+    // Variantes par nom, pour le code hors des boucles de rendu
+    public void setUniform(String uniformName, Matrix4f matrix) {
+        int location = locationOf(uniformName);
+        if (location >= 0) setUniform(location, matrix);
+    }
+
     public void setUniform(String uniformName, float value) {
-        if (!hasUniform(uniformName)) {
-            System.out.println("⚠️ Tentative d'utilisation d'uniform inexistant: " + uniformName);
-            return;
-        }
-        GL20.glUniform1f(uniforms.get(uniformName), value);
+        int location = locationOf(uniformName);
+        if (location >= 0) setUniform(location, value);
     }
 
     public void setUniform(String uniformName, float x, float y) {
-        if (!hasUniform(uniformName)) {
-            System.out.println("⚠️ Tentative d'utilisation d'uniform inexistant: " + uniformName);
-            return;
-        }
-        GL20.glUniform2f(uniforms.get(uniformName), x, y);
+        int location = locationOf(uniformName);
+        if (location >= 0) setUniform(location, x, y);
     }
 
     // 🔧 FIX 3: Correction du nom du paramètre (width -> value)
     public void setUniform(String uniformName, int value) {
-        if (!hasUniform(uniformName)) {
-            System.out.println("⚠️ Tentative d'utilisation d'uniform inexistant: " + uniformName);
-            return;
-        }
-        GL20.glUniform1i(uniforms.get(uniformName), value);
+        int location = locationOf(uniformName);
+        if (location >= 0) setUniform(location, value);
     }
 
     public void createVertexShader(String shaderCode) throws Exception {
@@ -91,11 +115,8 @@ public class ShaderManager {
 
         if(GL20.glGetShaderi(shaderID, GL20.GL_COMPILE_STATUS) == 0) {
             String error = GL20.glGetShaderInfoLog(shaderID, 1024);
-            System.err.println("❌ Erreur compilation shader:");
-            System.err.println("Type: " + (shaderType == GL20.GL_VERTEX_SHADER ? "VERTEX" : "FRAGMENT"));
-            System.err.println("Erreur: " + error);
-            System.err.println("Code du shader:");
-            System.err.println(shaderCode);
+            Log.atError(Category.RENDER).arg(shaderType == GL20.GL_VERTEX_SHADER ? "VERTEX" : "FRAGMENT").arg(error).arg(shaderCode)
+                    .log("❌ Erreur compilation shader:%nType: %s%nErreur: %s%nCode du shader:%n%s");
             throw new Exception("Error compiling shader code : Type: " + shaderType + " Info " + error);
         }
 
@@ -108,8 +129,7 @@ public class ShaderManager {
 
         if(GL20.glGetProgrami(programID, GL20.GL_LINK_STATUS) == 0) {
             String error = GL20.glGetProgramInfoLog(programID, 1024);
-            System.err.println("❌ Erreur de liaison du programme shader:");
-            System.err.println(error);
+            Log.atError(Category.RENDER).arg(error).log("❌ Erreur de liaison du programme shader:%n%s");
             throw new Exception("Error linking shader code Info " + error);
         }
 
@@ -127,36 +147,23 @@ public class ShaderManager {
         GL20.glValidateProgram(programID);
         if(GL20.glGetProgrami(programID, GL20.GL_VALIDATE_STATUS) == 0) {
             String error = GL20.glGetProgramInfoLog(programID, 1024);
-            System.err.println("❌ Erreur de validation du programme shader:");
-            System.err.println(error);
+            Log.atError(Category.RENDER).arg(error).log("❌ Erreur de validation du programme shader:%n%s");
             throw new Exception("Unable to validate shader code: " + error);
         }
 
-        System.out.println("✅ Shader programme lié et validé avec succès");
+        Log.atInfo(Category.RENDER).log("✅ Shader programme lié et validé avec succès");
     }
 
     public int getUniformLocation(String uniformName) {
         return GL20.glGetUniformLocation(programID, uniformName);
     }
 
-    public void setUniform(String uniformName, Matrix4f matrix) {
-        if (!hasUniform(uniformName)) {
-            System.out.println("⚠️ Tentative d'utilisation d'uniform inexistant: " + uniformName);
-            return;
-        }
-        try (MemoryStack stack = MemoryStack.stackPush()) {
-            FloatBuffer buffer = stack.mallocFloat(16);
-            matrix.get(buffer);
-            GL20.glUniformMatrix4fv(getUniformLocation(uniformName), false, buffer);
-        }
-    }
-
     public void bind() {
-        GL20.glUseProgram(programID);
+        GLState.useProgram(programID);
     }
 
     public void unbind() {
-        GL20.glUseProgram(0);
+        GLState.useProgram(0);
     }
 
     public void cleanup() {
@@ -0,0 +1,159 @@
+package Core;
+
+import Core.Entities.Texture;
+import Core.Metrics.RenderStats;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL20;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Regroupe les sprites d'une frame dans un seul VBO de streaming.
+ * Les quads sont triés par profondeur (arrière vers avant, pour la transparence)
+ * puis par texture : chaque suite de quads de même texture part en un seul
+ * glDrawElements. Les sommets sont déjà en coordonnées monde.
+ */
+public class SpriteBatch {
+
+    private static final int MAX_QUADS = 8192;           // Doit tenir sur 16 bits (clé de tri)
+    private static final int FLOATS_PER_VERTEX = 5;      // x, y, z, u, v
+    private static final int FLOATS_PER_QUAD = FLOATS_PER_VERTEX * 4;
+    private static final int STRIDE = FLOATS_PER_VERTEX * Float.BYTES;
+
+    private int vao, vbo, ibo;
+
+    // Quads de la frame : 9 floats (x0, y0, x1, y1, z, u0, v0, u1, v1) + texture
+    private final float[] quads = new float[MAX_QUADS * 9];
+    private final Texture[] textures = new Texture[MAX_QUADS];
+    private final long[] sortKeys = new long[MAX_QUADS];
+    private int quadCount = 0;
+
+    private FloatBuffer vertexData;
+
+    public void init() {
+        vertexData = MemoryUtil.memAllocFloat(MAX_QUADS * FLOATS_PER_QUAD);
+
+        vao = GL30.glGenVertexArrays();
+        GLState.bindVertexArray(vao);
+
+        vbo = GL15.glGenBuffers();
+        GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, vbo);
+        GL15.glBufferData(GL15.GL_ARRAY_BUFFER, (long) MAX_QUADS * FLOATS_PER_QUAD * Float.BYTES, GL15.GL_STREAM_DRAW);
+        GpuResources.created(GpuResources.Kind.VERTEX_ARRAY, 0);
+        GpuResources.created(GpuResources.Kind.BUFFER, (long) MAX_QUADS * FLOATS_PER_QUAD * Float.BYTES);
+        GL20.glVertexAttribPointer(0, 3, GL11.GL_FLOAT, false, STRIDE, 0);
+        GL20.glVertexAttribPointer(1, 2, GL11.GL_FLOAT, false, STRIDE, 3 * Float.BYTES);
+        GL20.glEnableVertexAttribArray(0);
+        GL20.glEnableVertexAttribArray(1);
+
+        // Indices fixes : 0,1,2,2,3,0 pour chaque quad
+        IntBuffer indices = MemoryUtil.memAllocInt(MAX_QUADS * 6);
+        for (int i = 0; i < MAX_QUADS; i++) {
+            int base = i * 4;
+            indices.put(base).put(base + 1).put(base + 2).put(base + 2).put(base + 3).put(base);
+        }
+        indices.flip();
+        ibo = GL15.glGenBuffers();
+        GL15.glBindBuffer(GL15.GL_ELEMENT_ARRAY_BUFFER, ibo);
+        GL15.glBufferData(GL15.GL_ELEMENT_ARRAY_BUFFER, indices, GL15.GL_STATIC_DRAW);
+        GpuResources.created(GpuResources.Kind.BUFFER, (long) MAX_QUADS * 6 * Integer.BYTES);
+        MemoryUtil.memFree(indices);
+
+        GLState.bindVertexArray(0);
+    }
+
+    public boolean isFull() {
+        return quadCount == MAX_QUADS;
+    }
+
+    // ✅ Ajoute un quad centré en (x, y) ; (u0, v0) = coin bas gauche, (u1, v1) = coin haut droit
+    public void add(Texture texture, float x, float y, float z, float width, float height,
+                    float u0, float v0, float u1, float v1) {
+        int i = quadCount * 9;
+        quads[i] = x - width / 2;
+        quads[i + 1] = y - height / 2;
+        quads[i + 2] = x + width / 2;
+        quads[i + 3] = y + height / 2;
+        quads[i + 4] = z;
+        quads[i + 5] = u0;
+        quads[i + 6] = v0;
+        quads[i + 7] = u1;
+        quads[i + 8] = v1;
+        textures[quadCount] = texture;
+        sortKeys[quadCount] = sortKey(z, texture, quadCount);
+        quadCount++;
+    }
+
+    // Profondeur (ordre des floats conservé sur un int signé), puis texture, puis ordre d'ajout
+    private static long sortKey(float z, Texture texture, int index) {
+        int bits = Float.floatToIntBits(z);
+        int depth = bits >= 0 ? bits : bits ^ 0x7FFFFFFF;
+        long textureId = idOf(texture) & 0x7FFF;
+        return ((long) depth << 32) | (textureId << 16) | index;
+    }
+
+    // ✅ Envoie les quads au GPU et les dessine (shader déjà lié par l'appelant)
+    public void flush() {
+        if (quadCount == 0) return;
+
+        Arrays.sort(sortKeys, 0, quadCount);
+
+        vertexData.clear();
+        for (int k = 0; k < quadCount; k++) {
+            int i = (int) (sortKeys[k] & 0xFFFF) * 9;
+            float x0 = quads[i], y0 = quads[i + 1], x1 = quads[i + 2], y1 = quads[i + 3], z = quads[i + 4];
+            float u0 = quads[i + 5], v0 = quads[i + 6], u1 = quads[i + 7], v1 = quads[i + 8];
+            vertexData.put(x0).put(y0).put(z).put(u0).put(v0);
+            vertexData.put(x1).put(y0).put(z).put(u1).put(v0);
+            vertexData.put(x1).put(y1).put(z).put(u1).put(v1);
+            vertexData.put(x0).put(y1).put(z).put(u0).put(v1);
+        }
+        vertexData.flip();
+
+        GLState.bindVertexArray(vao);
+        GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, vbo);
+        // Orphelinage : le pilote n'attend pas la fin des draws de la frame précédente
+        GL15.glBufferData(GL15.GL_ARRAY_BUFFER, (long) MAX_QUADS * FLOATS_PER_QUAD * Float.BYTES, GL15.GL_STREAM_DRAW);
+        GL15.glBufferSubData(GL15.GL_ARRAY_BUFFER, 0, vertexData);
+
+        // Un draw par suite de quads partageant la même texture
+        int runStart = 0;
+        while (runStart < quadCount) {
+            Texture texture = textures[(int) (sortKeys[runStart] & 0xFFFF)];
+            int textureId = idOf(texture);
+            int runEnd = runStart + 1;
+            while (runEnd < quadCount && idOf(textures[(int) (sortKeys[runEnd] & 0xFFFF)]) == textureId) {
+                runEnd++;
+            }
+
+            GLState.bindTexture(0, textureId);
+            int count = (runEnd - runStart) * 6;
+            GL11.glDrawElements(GL11.GL_TRIANGLES, count, GL11.GL_UNSIGNED_INT, (long) runStart * 6 * Integer.BYTES);
+            RenderStats.drawCall((runEnd - runStart) * 4);
+
+            runStart = runEnd;
+        }
+
+        Arrays.fill(textures, 0, quadCount, null);
+        quadCount = 0;
+    }
+
+    private static int idOf(Texture texture) {
+        return texture != null ? texture.getId() : 0;
+    }
+
+    public void cleanup() {
+        GpuResources.deleteLater(GpuResources.Kind.BUFFER, vbo, (long) MAX_QUADS * FLOATS_PER_QUAD * Float.BYTES);
+        GpuResources.deleteLater(GpuResources.Kind.BUFFER, ibo, (long) MAX_QUADS * 6 * Integer.BYTES);
+        GpuResources.deleteLater(GpuResources.Kind.VERTEX_ARRAY, vao, 0);
+        if (vertexData != null) {
+            MemoryUtil.memFree(vertexData);
+            vertexData = null;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package Core;
+
+import Core.Entities.Texture;
+import Core.Logging.Category;
+import Core.Logging.Log;
+
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache des textures chargées depuis un fichier, indexé par chemin normalisé.
+ * <p>
+ * {@link #acquire(String)} renvoie la texture déjà chargée (compteur de références +1),
+ * {@link #release(Texture)} la rend. Une texture sans référence reste en cache et n'est
+ * supprimée du GPU que si la mémoire totale dépasse le budget, la moins récemment
+ * utilisée d'abord. Thread GL uniquement.
+ * <p>
+ * Le chargement est asynchrone ({@link AsyncTextureLoader}) : la texture rendue affiche
+ * l'image de remplacement jusqu'à l'envoi, et ne compte dans le budget qu'à partir de là.
+ */
+public class TextureCache {
+
+    private static final long DEFAULT_BUDGET_BYTES = 256L * 1024 * 1024;
+
+    private static TextureCache instance;
+
+    // Ordre d'accès : le premier élément est le moins récemment utilisé
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Texture, Entry> byTexture = new IdentityHashMap<>(); // L'ID change à la fin du chargement
+
+    private long budgetBytes = DEFAULT_BUDGET_BYTES;
+    private long residentBytes = 0;
+    private long hits = 0, misses = 0, evictions = 0;
+
+    private static final class Entry {
+        final String key;
+        Texture texture;
+        long bytes; // 0 tant que la texture n'est pas sur le GPU
+        int references;
+
+        Entry(String key) {
+            this.key = key;
+        }
+    }
+
+    private TextureCache() {}
+
+    public static synchronized TextureCache getInstance() {
+        if (instance == null) {
+            instance = new TextureCache();
+        }
+        return instance;
+    }
+
+    // ✅ Texture du fichier, chargée une seule fois ; reste blanche si le fichier manque
+    public synchronized Texture acquire(String path) {
+        String key = Path.of(path).normalize().toString();
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            misses++;
+            entry = new Entry(key);
+            entries.put(key, entry);
+            entry.texture = AsyncTextureLoader.load(path, this::uploaded);
+            byTexture.put(entry.texture, entry);
+        } else {
+            hits++;
+        }
+
+        entry.references++;
+        evictOverBudget(); // Après le +1 : la texture demandée n'est jamais évincée
+        return entry.texture;
+    }
+
+    public synchronized void release(Texture texture) {
+        if (texture == null) return;
+        Entry entry = byTexture.get(texture);
+        if (entry == null || entry.references == 0) {
+            Log.atWarn(Category.RESOURCES).arg(texture.getId()).log("⚠️ Libération d'une texture non acquise (ID %d)");
+            return;
+        }
+        entry.references--;
+        if (entry.references == 0) {
+            evictOverBudget();
+        }
+    }
+
+    // ✅ Thread GL : la texture vient d'arriver sur le GPU, elle compte désormais dans le budget
+    private synchronized void uploaded(Texture texture, long bytes) {
+        Entry entry = byTexture.get(texture);
+        if (entry == null) return; // Évincée ou cache vidé pendant le chargement
+
+        entry.bytes = bytes;
+        residentBytes += bytes;
+        Log.atDebug(Category.RESOURCES).arg(entry.key).arg(bytes).log("✅ Texture mise en cache: %s (%d octets)");
+        evictOverBudget();
+    }
+
+    // ✅ Supprime les textures non référencées les moins récemment utilisées jusqu'à revenir sous le budget
+    private void evictOverBudget() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (residentBytes > budgetBytes && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.references > 0) continue;
+
+            iterator.remove();
+            byTexture.remove(entry.texture);
+            entry.texture.release(); // Le cache détient l'unique référence GPU
+            residentBytes -= entry.bytes;
+            evictions++;
+            Log.atDebug(Category.RESOURCES).arg(entry.key).log("🗑️ Texture évincée du cache: %s");
+        }
+    }
+
+    public synchronized void setBudgetBytes(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+        evictOverBudget();
+    }
+
+    // ✅ Statistiques
+    public synchronized long getResidentBytes() { return residentBytes; }
+    public synchronized long getBudgetBytes() { return budgetBytes; }
+    public synchronized int getTextureCount() { return entries.size(); }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+    public synchronized long getEvictions() { return evictions; }
+
+    // Les textures elles-mêmes sont supprimées par ILoader.cleanup()
+    public synchronized void clear() {
+        entries.clear();
+        byTexture.clear();
+        residentBytes = 0;
+    }
+}
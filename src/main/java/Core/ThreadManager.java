@@ -29,6 +29,24 @@ public class ThreadManager {
         });
     }
 
+    // ✅ Exécute un tick de simulation sur le thread GameLogic
+    public Future<?> submitGameTask(Runnable task) {
+        return gameExecutor.submit(task);
+    }
+
+    public void shutdown() {
+        running = false;
+        gameExecutor.shutdown();
+        try {
+            if (!gameExecutor.awaitTermination(TASK_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                gameExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            gameExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
     // ✅ Un seul verrou en lecture/écriture au lieu de multiples verrous
     public void withReadLock(Runnable task) {
         dataLock.readLock().lock();
@@ -0,0 +1,22 @@
+package Core;
+
+/**
+ * Image prête à être envoyée au GPU, préparée hors du thread GL
+ * (PNG décodé ou fichier KTX2 lu et transcodé).
+ */
+public interface UploadableImage {
+
+    // Thread GL : crée la texture et renvoie son identifiant
+    int upload(ObjectLoader loader);
+
+    long getByteSize();
+
+    // Mémoire native à rendre une fois l'envoi fait (ou abandonné)
+    void free();
+
+    // ✅ Version précalculée (.ktx2) si elle existe, sinon le PNG
+    static UploadableImage read(String filename) throws Exception {
+        String baked = KtxImage.bakedPath(filename);
+        return baked != null ? KtxImage.read(baked) : DecodedImage.decode(filename);
+    }
+}
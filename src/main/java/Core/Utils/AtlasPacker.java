@@ -0,0 +1,70 @@
+package Core.Utils;
+
+import java.util.Arrays;
+
+/**
+ * Rangement d'images rectangulaires dans un atlas, par étagères :
+ * les images sont triées par hauteur décroissante puis posées de gauche à droite,
+ * une nouvelle étagère commençant quand la ligne est pleine.
+ * Un pixel de marge sépare les cellules pour éviter les fuites au filtrage.
+ */
+public final class AtlasPacker {
+
+    public static final int PADDING = 1;
+
+    private AtlasPacker() {}
+
+    // Résultat : position de chaque image et taille de l'atlas
+    public static final class Layout {
+        public final int[] x;
+        public final int[] y;
+        public final int width;
+        public final int height;
+
+        private Layout(int[] x, int[] y, int width, int height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    public static Layout pack(int[] widths, int[] heights) {
+        int count = widths.length;
+        int[] x = new int[count];
+        int[] y = new int[count];
+
+        // Largeur visée : un carré de même aire, puissance de 2, au moins l'image la plus large
+        long area = 0;
+        int maxWidth = 1;
+        for (int i = 0; i < count; i++) {
+            area += (long) (widths[i] + PADDING) * (heights[i] + PADDING);
+            maxWidth = Math.max(maxWidth, widths[i] + PADDING);
+        }
+        int atlasWidth = Integer.highestOneBit(Math.max(maxWidth, (int) Math.ceil(Math.sqrt(area))) - 1) << 1;
+        atlasWidth = Math.max(atlasWidth, 1);
+
+        // Tri par hauteur décroissante (index encodé dans les bits de poids faible)
+        long[] order = new long[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = ((long) -heights[i] << 32) | i;
+        }
+        Arrays.sort(order);
+
+        int cursorX = 0, shelfY = 0, shelfHeight = 0;
+        for (long key : order) {
+            int i = (int) key;
+            if (cursorX + widths[i] > atlasWidth) {
+                shelfY += shelfHeight + PADDING;
+                cursorX = 0;
+                shelfHeight = 0;
+            }
+            x[i] = cursorX;
+            y[i] = shelfY;
+            cursorX += widths[i] + PADDING;
+            shelfHeight = Math.max(shelfHeight, heights[i]);
+        }
+
+        return new Layout(x, y, atlasWidth, shelfY + shelfHeight);
+    }
+}
@@ -0,0 +1,67 @@
+package Core.Utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * File circulaire bornée, sans verrou, pour UN producteur et UN consommateur.
+ * Capacité arrondie à une puissance de deux ; aucune allocation après construction.
+ * <p>
+ * Chaque côté ne publie que son propre compteur (écriture "release") et garde
+ * une copie locale du compteur d'en face, relue seulement quand elle ne suffit plus.
+ */
+public final class SpscRing<T> {
+
+    private final Object[] slots;
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong(); // Prochaine lecture (consommateur)
+    private final AtomicLong tail = new AtomicLong(); // Prochaine écriture (producteur)
+
+    private long cachedHead = 0; // Producteur uniquement
+    private long cachedTail = 0; // Consommateur uniquement
+
+    public SpscRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new Object[size];
+        this.mask = size - 1;
+    }
+
+    // ✅ Producteur : false si la file est pleine (à l'appelant de décider : réessayer, attendre, abandonner)
+    public boolean offer(T item) {
+        long t = tail.get();
+        if (t - cachedHead == slots.length) {
+            cachedHead = head.get();
+            if (t - cachedHead == slots.length) return false;
+        }
+        slots[(int) t & mask] = item;
+        tail.lazySet(t + 1); // Publie l'élément
+        return true;
+    }
+
+    // ✅ Consommateur : vide des éléments dans out à partir de offset (jusqu'à la fin de out), renvoie leur nombre
+    @SuppressWarnings("unchecked")
+    public int drainTo(T[] out, int offset) {
+        long h = head.get();
+        if (h == cachedTail) {
+            cachedTail = tail.get();
+            if (h == cachedTail) return 0;
+        }
+        int count = (int) Math.min(cachedTail - h, out.length - offset);
+        for (int i = 0; i < count; i++) {
+            int slot = (int) (h + i) & mask;
+            out[offset + i] = (T) slots[slot];
+            slots[slot] = null; // Pas de rétention après lecture
+        }
+        head.lazySet(h + count); // Libère les cases
+        return count;
+    }
+
+    // Approximatif hors des deux threads propriétaires
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,86 @@
+package Core.World;
+
+import Core.PlatformRenderer;
+
+import java.util.Arrays;
+
+/**
+ * Tranche du monde de largeur fixe le long de X, identifiée par son index entier.
+ * Chargée et déchargée d'un bloc : ses plateformes (emplacements du {@link PlatformStore}, aussi identifiants dans le {@link SpatialIndex})
+ * et son maillage (quads déjà au format de {@link PlatformRenderer}) vivent et meurent avec elle.
+ * Remplie puis figée par {@link #bake()} sur le thread de simulation ; une fois figée, le tableau
+ * de sommets n'est plus jamais modifié et peut être lu par le thread de rendu.
+ */
+public final class Chunk {
+
+    public static final float WIDTH = 8.0f;
+
+    private static final int FLOATS_PER_QUAD = 4 * PlatformRenderer.FLOATS_PER_VERTEX;
+
+    private final int index;
+    private int[] slots = new int[8];
+    private int platformCount = 0;
+
+    // ✅ Maillage statique : 4 sommets par plateforme (x, y, z, u, v, couche)
+    private float[] vertices = new float[8 * FLOATS_PER_QUAD];
+    private float minY = Float.MAX_VALUE;
+    private float maxY = -Float.MAX_VALUE;
+    private boolean baked = false;
+
+    public Chunk(int index) {
+        this.index = index;
+    }
+
+    // ✅ Chunk contenant l'abscisse x (les négatifs arrondis vers le bas)
+    public static int indexOf(float x) {
+        return (int) Math.floor(x / WIDTH);
+    }
+
+    public void add(PlatformStore store, int slot, float depth) {
+        if (baked) throw new IllegalStateException("Chunk " + index + " déjà figé");
+
+        int i = platformCount * FLOATS_PER_QUAD;
+        if (i == vertices.length) {
+            vertices = Arrays.copyOf(vertices, i * 2);
+            slots = Arrays.copyOf(slots, platformCount * 2);
+        }
+        float left = store.getLeft(slot), right = store.getRight(slot);
+        float bottom = store.getBottom(slot), top = store.getTop(slot);
+        float layer = store.getLayer(slot);
+        // Sens trigonométrique, comme le quad unité d'origine : bas gauche, bas droit, haut droit, haut gauche
+        i = putVertex(i, left, bottom, depth, 0, 0, layer);
+        i = putVertex(i, right, bottom, depth, 1, 0, layer);
+        i = putVertex(i, right, top, depth, 1, 1, layer);
+        putVertex(i, left, top, depth, 0, 1, layer);
+
+        minY = Math.min(minY, bottom);
+        maxY = Math.max(maxY, top);
+        slots[platformCount++] = slot;
+    }
+
+    private int putVertex(int i, float x, float y, float z, float u, float v, float layer) {
+        vertices[i] = x;
+        vertices[i + 1] = y;
+        vertices[i + 2] = z;
+        vertices[i + 3] = u;
+        vertices[i + 4] = v;
+        vertices[i + 5] = layer;
+        return i + PlatformRenderer.FLOATS_PER_VERTEX;
+    }
+
+    // ✅ Fige le maillage à sa taille exacte : envoyé tel quel au GPU, une seule fois
+    public void bake() {
+        vertices = Arrays.copyOf(vertices, platformCount * FLOATS_PER_QUAD);
+        baked = true;
+    }
+
+    public int getIndex() { return index; }
+    public float getMinX() { return index * WIDTH; }
+    public float getMaxX() { return (index + 1) * WIDTH; }
+    public float getMinY() { return minY; }
+    public float getMaxY() { return maxY; }
+    public int[] getSlots() { return slots; }
+    public int getPlatformCount() { return platformCount; }
+    public float[] getVertices() { return vertices; }
+    public boolean isBaked() { return baked; }
+}
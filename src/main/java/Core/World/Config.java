@@ -1,8 +1,16 @@
 package Core.World;
 
+import java.util.SplittableRandom;
+
 public class Config {
     public static final float PLAYER_MOVE_SPEED = 0.01f;
     public static final float GRAVITY = -0.0025f;
     public static final float PLATFORM_GENERATION_DISTANCE = 10.0f;
+
+    // ✅ Graine du monde (--seed=N) ; tirée au hasard si absente
+    private static volatile long worldSeed = new SplittableRandom().nextLong();
+
+    public static long getWorldSeed() { return worldSeed; }
+    public static void setWorldSeed(long seed) { worldSeed = seed; }
     // ...
 }
\ No newline at end of file
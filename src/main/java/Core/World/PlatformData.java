@@ -1,21 +1,22 @@
 package Core.World;
 
-import org.joml.Vector3f;
-
-// Données pure (pas de Model OpenGL)
+// Données pure (pas de Model OpenGL) : valeurs primitives, aucune copie à la lecture
 public class PlatformData {
-    private final Vector3f position;
-    private final Vector3f size;
+    private final float x, y;
+    private final float width, height;
     private final int type;
 
-    public PlatformData(Vector3f position, Vector3f size, int type) {
-        this.position = new Vector3f(position);
-        this.size = new Vector3f(size);
+    public PlatformData(float x, float y, float width, float height, int type) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
         this.type = type;
     }
 
-    // Getters avec copies défensives
-    public Vector3f getPosition() { return new Vector3f(position); }
-    public Vector3f getSize() { return new Vector3f(size); }
+    public float getX() { return x; }
+    public float getY() { return y; }
+    public float getWidth() { return width; }
+    public float getHeight() { return height; }
     public int getType() { return type; }
-}
\ No newline at end of file
+}
@@ -1,82 +1,262 @@
 // src/main/java/Core/World/PlatformGenerator.java
 package Core.World;
 
-import org.joml.Vector3f;
+import Core.Metrics.Histogram;
+import Core.Utils.SpscRing;
+
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.locks.LockSupport;
 
+/**
+ * Génération procédurale des plateformes, chunk par chunk. Le contenu d'un chunk ne dépend
+ * que de (graine du monde, index du chunk) : il peut être généré dans n'importe quel ordre,
+ * sur n'importe quel thread, et régénéré à l'identique quand le joueur y revient.
+ * <p>
+ * Les demandes sont réparties sur un {@link ForkJoinPool} (mode FIFO : les chunks les plus
+ * proches, demandés en premier, sortent en premier). Demandes, annulations et réceptions
+ * se font depuis le thread de simulation ; seuls les calculs tournent sur le pool.
+ * <p>
+ * Retour des résultats : chaque thread du pool a sa propre {@link SpscRing} (un producteur,
+ * le thread de simulation comme unique consommateur), vidée par lots dans un tableau fourni
+ * par l'appelant. Contre-pression : au plus {@link #MAX_IN_FLIGHT} demandes en cours
+ * (les suivantes sont refusées et redemandées plus tard) ; un producteur qui trouve sa file
+ * pleine attend qu'elle se vide.
+ * <p>
+ * Mesures : profondeur de file (demandes pas encore reçues), latence demande → réception,
+ * durée du calcul seul.
+ */
 public class PlatformGenerator {
-    private final ExecutorService generatorThread;
-    private final BlockingQueue<PlatformData> generatedPlatforms;
-    private final Random random;
-
-    public PlatformGenerator() {
-        this.generatorThread = Executors.newSingleThreadExecutor(r -> {
-            Thread t = new Thread(r, "PlatformGenerator");
-            t.setDaemon(true);
-            t.setPriority(Thread.NORM_PRIORITY - 1);
-            return t;
-        });
-        this.generatedPlatforms = new LinkedBlockingQueue<>();
-        this.random = new Random();
+
+    // Espacement des centres, et marge aux bords du chunk (pas de chevauchement entre chunks voisins)
+    private static final float MIN_SPACING = 1.5f;
+    private static final float SPACING_JITTER = 1.0f;
+    private static final float EDGE_MARGIN = 0.9f;
+
+    // Un chunk se génère en quelques microsecondes : peu de threads suffisent
+    private static final int THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 2));
+
+    // ✅ Demandes en cours au plus ; chaque file peut contenir tous leurs résultats
+    public static final int MAX_IN_FLIGHT = 32;
+    private static final int RING_CAPACITY = MAX_IN_FLIGHT * 2; // Marge pour les résultats annulés trop tard
+    private static final long FULL_RING_WAIT_NS = 50_000L;
+
+    private final long seed;
+    private final ForkJoinPool pool;
+
+    // ✅ Une file par thread du pool ; les files des threads terminés sont reprises par les suivants
+    private final List<SpscRing<GeneratedChunk>> rings = new CopyOnWriteArrayList<>();
+    private final Queue<SpscRing<GeneratedChunk>> freeRings = new ConcurrentLinkedQueue<>();
+    private int nextRing = 0; // Équité entre les files lors d'une vidange partielle
+
+    // ✅ Demandes pas encore reçues (thread de simulation uniquement, tableaux fixes : pas de boxing)
+    private final int[] inFlightIndex = new int[MAX_IN_FLIGHT];
+    private final ForkJoinTask<?>[] inFlightTask = new ForkJoinTask<?>[MAX_IN_FLIGHT];
+    private int inFlightCount = 0;
+
+    // ✅ Mesures (écrites par le thread de simulation, lues approximativement ailleurs)
+    private final Histogram latency = new Histogram();
+    private final Histogram generationTime = new Histogram();
+    private long latencyP99 = 0; // Recalculé seulement quand des chunks arrivent, lu à chaque tick
+    private volatile int queueDepth = 0;
+    private volatile int maxQueueDepth = 0;
+    private long cancelled = 0;
+    private long refused = 0;
+    private volatile long producerWaits = 0;
+
+    // Résultat d'une demande : plateformes du chunk, déjà triées par X
+    public record GeneratedChunk(int index, List<PlatformData> platforms, long requestedAt, long generationNs) {}
+
+    // Thread du pool avec sa file de résultats
+    private final class GeneratorThread extends ForkJoinWorkerThread {
+        private final SpscRing<GeneratedChunk> ring;
+
+        GeneratorThread(ForkJoinPool pool) {
+            super(pool);
+            SpscRing<GeneratedChunk> free = freeRings.poll();
+            if (free == null) {
+                free = new SpscRing<>(RING_CAPACITY);
+                rings.add(free);
+            }
+            this.ring = free;
+            setName("PlatformGenerator-" + getPoolIndex());
+            setDaemon(true);
+            setPriority(Thread.NORM_PRIORITY - 1);
+        }
+
+        @Override
+        protected void onTermination(Throwable exception) {
+            freeRings.add(ring); // Ce thread n'écrira plus : un successeur peut la reprendre
+            super.onTermination(exception);
+        }
+    }
+
+    public PlatformGenerator(long seed) {
+        this.seed = seed;
+        this.pool = new ForkJoinPool(THREADS, GeneratorThread::new, null, true);
     }
 
-    // ✅ Demande de génération asynchrone
-    public void requestPlatforms(int count, Vector3f startPosition) {
-        generatorThread.submit(() -> {
-            List<PlatformData> newPlatforms = generatePlatformData(count, startPosition);
-            generatedPlatforms.addAll(newPlatforms);
+    // ✅ Demande de génération asynchrone d'un chunk. false si refusée (trop de demandes en cours) :
+    // l'appelant redemandera plus tard. Déjà en cours : rien à faire
+    public boolean requestChunk(int index) {
+        if (isRequested(index)) return true;
+        if (inFlightCount == MAX_IN_FLIGHT) {
+            refused++;
+            return false;
+        }
+        long requestedAt = System.nanoTime();
+        inFlightIndex[inFlightCount] = index;
+        inFlightTask[inFlightCount++] = pool.submit(() -> {
+            long start = System.nanoTime();
+            List<PlatformData> platforms = generateChunk(seed, index);
+            publish(new GeneratedChunk(index, platforms, requestedAt, System.nanoTime() - start));
         });
+        updateQueueDepth();
+        return true;
+    }
+
+    // Thread du pool : pousse dans sa propre file, attend si elle est pleine
+    private void publish(GeneratedChunk chunk) {
+        SpscRing<GeneratedChunk> ring = ((GeneratorThread) Thread.currentThread()).ring;
+        while (!ring.offer(chunk)) {
+            if (pool.isShutdown()) return;
+            producerWaits++; // Un seul écrivain par file ; compteur indicatif
+            LockSupport.parkNanos(FULL_RING_WAIT_NS);
+        }
+    }
+
+    public boolean isRequested(int index) {
+        return find(index) >= 0;
+    }
+
+    public boolean hasCapacity() {
+        return inFlightCount < MAX_IN_FLIGHT;
+    }
+
+    private int find(int index) {
+        for (int i = 0; i < inFlightCount; i++) {
+            if (inFlightIndex[i] == index) return i;
+        }
+        return -1;
+    }
+
+    private void removeAt(int i) {
+        inFlightIndex[i] = inFlightIndex[--inFlightCount];
+        inFlightTask[i] = inFlightTask[inFlightCount];
+        inFlightTask[inFlightCount] = null;
+    }
+
+    // ✅ Annule les demandes hors de [first, last] : le joueur est parti avant qu'elles ne servent
+    public void cancelOutside(int first, int last) {
+        for (int i = inFlightCount - 1; i >= 0; i--) {
+            int index = inFlightIndex[i];
+            if (index < first || index > last) {
+                // Déjà terminée : le résultat arrivera quand même et sera ignoré par l'appelant
+                inFlightTask[i].cancel(false);
+                removeAt(i);
+                cancelled++;
+            }
+        }
+        updateQueueDepth();
     }
 
-    // ✅ Récupération des plateformes générées (thread principal)
-    public List<PlatformData> pollGeneratedPlatforms() {
-        List<PlatformData> result = new ArrayList<>();
-        PlatformData platform;
-        while ((platform = generatedPlatforms.poll()) != null) {
-            result.add(platform);
+    // ✅ Vide les files dans out (thread de simulation, sans allocation) ; renvoie le nombre reçu
+    public int pollGeneratedChunks(GeneratedChunk[] out) {
+        int received = 0;
+        int ringCount = rings.size();
+        for (int n = 0; n < ringCount && received < out.length; n++) {
+            SpscRing<GeneratedChunk> ring = rings.get((nextRing + n) % ringCount);
+            received += ring.drainTo(out, received);
         }
-        return result;
+        if (ringCount > 0) nextRing = (nextRing + 1) % ringCount;
+        if (received == 0) return 0;
+
+        long now = System.nanoTime();
+        for (int i = 0; i < received; i++) {
+            GeneratedChunk chunk = out[i];
+            int slot = find(chunk.index());
+            if (slot >= 0) removeAt(slot);
+            latency.record(now - chunk.requestedAt());
+            generationTime.record(chunk.generationNs());
+        }
+        latencyP99 = latency.getPercentile(99);
+        updateQueueDepth();
+        return received;
+    }
+
+    private void updateQueueDepth() {
+        int depth = inFlightCount;
+        queueDepth = depth;
+        if (depth > maxQueueDepth) maxQueueDepth = depth;
     }
 
-    // ✅ Génération pure des données (pas de OpenGL)
-    private List<PlatformData> generatePlatformData(int count, Vector3f startPosition) {
+    // ✅ Génération pure des données (pas d'OpenGL, pas d'état partagé) : même entrée, même chunk
+    public static List<PlatformData> generateChunk(long seed, int index) {
+        if (index == 0) return spawnChunk();
+
+        SplittableRandom random = new SplittableRandom(chunkSeed(seed, index));
         List<PlatformData> platforms = new ArrayList<>();
-        Vector3f currentPos = new Vector3f(startPosition);
 
-        for (int i = 0; i < count; i++) {
-            // Calculs de position (peut être complexe)
-            Vector3f nextPos = calculateNextPosition(currentPos);
-            Vector3f size = calculatePlatformSize();
+        float minX = index * Chunk.WIDTH + EDGE_MARGIN;
+        float maxX = (index + 1) * Chunk.WIDTH - EDGE_MARGIN;
+        float x = minX + (float) random.nextDouble() * SPACING_JITTER;
+        while (x < maxX) {
+            // ✅ Plateformes ACCESSIBLES (au-dessus ou au niveau du sol)
+            float y = -0.3f + (float) random.nextDouble() * 0.6f;            // Entre -0.3 et +0.3
+            float width = 1.0f + (float) random.nextDouble() * 0.8f;         // 1.0 à 1.8
+            float height = 0.2f + (float) random.nextDouble() * 0.1f;        // 0.2 à 0.3
             int type = random.nextInt(3); // Types de plateformes
 
-            platforms.add(new PlatformData(nextPos, size, type));
-            currentPos = nextPos;
+            // Ne déborde pas sur le chunk voisin
+            width = Math.min(width, 2 * Math.min(x - index * Chunk.WIDTH, (index + 1) * Chunk.WIDTH - x) - 0.2f);
+            platforms.add(new PlatformData(x, y, width, height, type));
+            x += MIN_SPACING + (float) random.nextDouble() * SPACING_JITTER;
         }
+        return platforms;
+    }
 
+    // ✅ Chunk de départ fixe : plateformes ACCESSIBLES depuis le sol (-0.4f)
+    private static List<PlatformData> spawnChunk() {
+        List<PlatformData> platforms = new ArrayList<>();
+        platforms.add(new PlatformData(1.5f, -0.1f, 1.5f, 0.3f, 0));  // Plus haute que le sol
+        platforms.add(new PlatformData(3.5f, 0.1f, 1.2f, 0.3f, 0));   // Encore plus haute
+        platforms.add(new PlatformData(6.0f, -0.1f, 1.0f, 0.3f, 0));  // Légèrement au-dessus du sol
         return platforms;
     }
 
-    // Dans PlatformGenerator.calculateNextPosition() - CORRIGER les hauteurs
-    private Vector3f calculateNextPosition(Vector3f currentPos) {
-        float nextX = currentPos.x + 1.5f + random.nextFloat();
-        // ✅ Plateformes ACCESSIBLES (au-dessus ou au niveau du sol)
-        float nextY = -0.3f + random.nextFloat() * 0.6f; // Entre -0.3 et +0.3
-        return new Vector3f(nextX, nextY, 0.0f);
+    // Graine propre au chunk : mélange (finaliseur SplitMix64) de la graine du monde et de l'index
+    private static long chunkSeed(long seed, int index) {
+        long z = seed + 0x9E3779B97F4A7C15L * (index + 1L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
     }
 
-    private Vector3f calculatePlatformSize() {
-        float width = 1.0f + random.nextFloat() * 0.8f; // 1.0 à 1.8 (plus grandes)
-        float height = 0.2f + random.nextFloat() * 0.1f; // 0.2 à 0.3
-        return new Vector3f(width, height, 0.1f);
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getQueueDepth() { return queueDepth; }
+    public Histogram getLatency() { return latency; }
+    public long getLatencyP99() { return latencyP99; } // Nanosecondes, thread de simulation
+
+    // ✅ File, latence et durée de calcul, en millisecondes
+    public String report() {
+        return String.format("file %d/%d (max %d, %d annulées, %d refusées, %d attentes) | latence p50 %.3f p99 %.3f max %.3f | calcul p50 %.3f p99 %.3f (%d chunks, %d threads)",
+                queueDepth, MAX_IN_FLIGHT, maxQueueDepth, cancelled, refused, producerWaits,
+                latency.getPercentile(50) / 1e6, latency.getPercentile(99) / 1e6, latency.getMax() / 1e6,
+                generationTime.getPercentile(50) / 1e6, generationTime.getPercentile(99) / 1e6,
+                generationTime.getCount(), THREADS);
     }
 
     public void shutdown() {
-        generatorThread.shutdown();
+        pool.shutdownNow();
     }
-}
\ No newline at end of file
+}
@@ -1,210 +1,266 @@
 package Core.World;
 
-import Core.Entities.Camera;
-import Core.Entities.Model;
-import Core.Entities.Platform;
+import Core.EngineManager;
 import Core.Entities.Texture;
-import Core.ObjectLoader;
-import Core.RenderManager;
+import Core.IRenderer;
+import Core.TextureCache;
+import Core.Logging.Category;
+import Core.Logging.Log;
 import org.joml.Vector3f;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * Plateformes du monde, rangées par chunk le long de X ({@link Chunk}).
+ * Les chunks d'une fenêtre autour du joueur sont générés à la demande (de façon déterministe,
+ * voir {@link PlatformGenerator}) ; ceux qui en sortent sont oubliés d'un bloc et régénérés au retour :
+ * le travail par tick dépend des chunks franchis, pas du nombre total de plateformes.
+ * Les plateformes elles-mêmes vivent dans un {@link PlatformStore} (tableaux primitifs) ;
+ * les requêtes de collision passent par un {@link SpatialIndex} (grille à clés {@code long}).
+ * Thread de simulation, sauf {@link #render(WorldSnapshot)} et {@link #cleanup()}.
+ */
 public class PlatformManager {
 
-    private final CopyOnWriteArrayList<Platform> platforms;
+    // ✅ Chunks chargés, tous dans la fenêtre [firstChunk, lastChunk] autour du joueur
+    private final Map<Integer, Chunk> chunks = new HashMap<>();
+    private int firstChunk = 0;
+    private int lastChunk = -1;
+    private int platformCount = 0;
+
     private final PlatformGenerator generator;
-    private final ObjectLoader loader;
-    private RenderManager renderer;
+    private IRenderer renderer;
+
+    // Chunks gardés de chaque côté du chunk du joueur ; les autres sont oubliés et régénérés au retour
+    private static final int MIN_CHUNKS_AROUND = 2;
+    private static final int MAX_CHUNKS_AHEAD = 16;
+
+    // ✅ Anticipation : le monde doit être prêt pour ce temps de course, en plus de la latence mesurée
+    private static final float LOOKAHEAD_SECONDS = 3.0f;
+    private static final float VELOCITY_SMOOTHING = 0.1f;
+    private static final float MIN_TRACKED_SPEED = Config.PLAYER_MOVE_SPEED * 0.1f; // En dessous : immobile
+    private float velocityX = 0.0f; // Unités par tick, lissée
+    private float lastPlayerX = Float.NaN;
+
+    // ✅ Chunks reçus par tick au plus, dans un tableau réutilisé (pas d'allocation par tick)
+    private static final int RECEIVE_BATCH = 16;
+    private final PlatformGenerator.GeneratedChunk[] received = new PlatformGenerator.GeneratedChunk[RECEIVE_BATCH];
+    private boolean windowRequested = true; // false : des demandes ont été refusées (contre-pression)
+
+    // ✅ Phase large des collisions : cellules de 2 unités
+    private static final float GRID_SIZE = 2.0f;
+    private final SpatialIndex spatialIndex = new SpatialIndex(GRID_SIZE);
+    private final PlatformStore store = new PlatformStore(64);
 
-    private float lastGeneratedX = 0.0f;
-    private volatile boolean isGenerating = false;
-    private static final float GENERATION_DISTANCE = 10.0f;
-    private final int GRID_SIZE = 2; // Taille des cellules
-    private final Map<String, List<Platform>> spatialGrid = new ConcurrentHashMap<>();
+    // Chute max sous le joueur pour qu'une plateforme compte comme "en dessous"
+    private static final float MAX_SURFACE_DISTANCE = 1.0f;
 
+    // Profondeur des plateformes, derrière le joueur (Z=0)
+    private static final float PLATFORM_DEPTH = -0.2f;
 
-    public PlatformManager(RenderManager renderer) {
+    // ✅ Texture partagée par toutes les plateformes (thread GL), liée une fois pour tous les maillages de chunk
+    private Texture platformTexture;
+
+    // Incrémentée à chaque ajout/suppression de chunk et publiée dans le snapshot :
+    // le rendu ne resynchronise ses maillages de chunk que si elle change
+    private long revision = 0;
+
+
+    public PlatformManager(IRenderer renderer) {
         this.renderer = renderer;
-        this.platforms = new CopyOnWriteArrayList<>();
-        this.loader = ObjectLoader.getInstance();
-        this.generator = new PlatformGenerator();
+        this.generator = new PlatformGenerator(Config.getWorldSeed());
+        Log.atInfo(Category.WORLD).arg(generator.getSeed()).log("🌍 Graine du monde : %d");
     }
 
     // Dans PlatformManager.inits()
     public void inits() {
-        createInitialPlatforms();
-
-        // ✅ FORCER une génération immédiate pour test
-        System.out.println("🔨 Génération forcée pour test...");
-        Vector3f testPos = new Vector3f(8.0f, 0.0f, 0.0f);
-        generator.requestPlatforms(3, testPos);
-
-        // Traiter immédiatement (pour le test)
-        try {
-            Thread.sleep(100); // Laisser le temps à la génération
-            processGeneratedPlatforms();
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        // ✅ Chunk du joueur généré tout de suite (quelques microsecondes, déterministe) : pas d'attente
+        // du générateur ; le reste de la fenêtre de départ arrive dans les ticks suivants
+        lastPlayerX = 0.0f;
+        installChunk(0, PlatformGenerator.generateChunk(generator.getSeed(), 0));
+        moveWindow(-MIN_CHUNKS_AROUND, MIN_CHUNKS_AROUND);
+        revision++;
+        Log.atInfo(Category.WORLD).arg(platformCount).arg(generator.getQueueDepth()).log("✅ %d plateformes initiales, %d chunks demandés");
     }
 
     // ✅ Amélioration dans PlatformManager.update()
     public void update(Vector3f playerPosition) {
         try {
-            System.out.println("🎮 Player à X=" + String.format("%.2f", playerPosition.x) +
-                    ", lastGeneratedX=" + String.format("%.2f", lastGeneratedX));
-
-            if (shouldGenerateMore(playerPosition) && !isGenerating) {
-                System.out.println("🔨 GÉNÉRATION DÉCLENCHÉE !");
-                isGenerating = true;
-                Vector3f startPos = new Vector3f(lastGeneratedX + 1.0f, -0.2f, 0.0f);
-                generator.requestPlatforms(5, startPos); // ✅ Moins de plateformes mais plus souvent
+            measureVelocity(playerPosition.x);
+
+            // ✅ Fenêtre déplacée seulement si le chunk du joueur ou l'anticipation changent
+            int currentChunk = Chunk.indexOf(playerPosition.x);
+            int extra = chunksAhead();
+            int newFirst = currentChunk - MIN_CHUNKS_AROUND - (velocityX < 0 ? extra : 0);
+            int newLast = currentChunk + MIN_CHUNKS_AROUND + (velocityX > 0 ? extra : 0);
+            if (newFirst != firstChunk || newLast != lastChunk) {
+                moveWindow(newFirst, newLast);
+            } else if (!windowRequested && generator.hasCapacity()) {
+                requestWindow();
             }
 
-            processGeneratedPlatforms();
-            cleanupDistantPlatforms(playerPosition);
+            processGeneratedChunks();
 
         } catch (Exception e) {
-            System.err.println("❌ Erreur critique dans PlatformManager: " + e.getMessage());
-            e.printStackTrace();
-            isGenerating = false;
+            Log.atError(Category.WORLD).cause(e).log("❌ Erreur critique dans PlatformManager");
         }
     }
 
-    private void processGeneratedPlatforms() {
-        List<PlatformData> newPlatformData = generator.pollGeneratedPlatforms();
+    private void measureVelocity(float playerX) {
+        if (!Float.isNaN(lastPlayerX)) {
+            // Borné à un chunk par tick : un téléport (réapparition) ne fausse pas la mesure
+            float dx = Math.max(-Chunk.WIDTH, Math.min(Chunk.WIDTH, playerX - lastPlayerX));
+            velocityX += (dx - velocityX) * VELOCITY_SMOOTHING;
+        }
+        lastPlayerX = playerX;
+    }
 
-        if (!newPlatformData.isEmpty()) {
-            // ✅ Créer les modèles OpenGL sur le thread principal
-            for (PlatformData data : newPlatformData) {
-                Model model = createPlatformModel(data.getSize());
-                Platform platform = new Platform(data.getPosition(), model);
-                platforms.add(platform);
+    // ✅ Chunks supplémentaires dans le sens de la course : distance parcourue pendant
+    // LOOKAHEAD_SECONDS plus la latence p99 de génération
+    private int chunksAhead() {
+        if (Math.abs(velocityX) < MIN_TRACKED_SPEED) return 0;
+        float seconds = LOOKAHEAD_SECONDS + generator.getLatencyP99() / 1e9f;
+        float distance = Math.abs(velocityX) * EngineManager.FRAMERATE * seconds;
+        return Math.min(MAX_CHUNKS_AHEAD, (int) Math.ceil(distance / Chunk.WIDTH));
+    }
 
-                lastGeneratedX = Math.max(lastGeneratedX, data.getPosition().x);
+    // ✅ Décharge les chunks sortis de la fenêtre, demande ceux qui y entrent (les plus proches d'abord)
+    private void moveWindow(int newFirst, int newLast) {
+        int removed = 0;
+        for (int index = firstChunk; index <= lastChunk; index++) {
+            if (index < newFirst || index > newLast) {
+                if (unloadChunk(index)) removed++;
             }
-
-            isGenerating = false;
-            System.out.println("🔨 " + newPlatformData.size() + " plateformes ajoutées");
+        }
+        generator.cancelOutside(newFirst, newLast);
+        firstChunk = newFirst;
+        lastChunk = newLast;
+        requestWindow();
+
+        if (removed > 0) {
+            revision++;
+            Log.atDebug(Category.WORLD).arg(removed).arg(newFirst).arg(newLast).log("🗑️ %d chunks déchargés (fenêtre %d..%d)");
         }
     }
 
-    // Dans PlatformManager.createInitialPlatforms()
-    // Dans PlatformManager.createInitialPlatforms() - CORRIGER les positions
-    private void createInitialPlatforms() {
-        // ✅ Plateformes ACCESSIBLES depuis le sol (-0.4f)
-        Vector3f pos1 = new Vector3f(1.5f, -0.1f, 0.0f);  // Plus haute que le sol
-        Vector3f size1 = new Vector3f(1.5f, 0.3f, 0.1f);
-        Model model1 = createPlatformModel(size1);
-        platforms.add(new Platform(pos1, model1));
-
-        Vector3f pos2 = new Vector3f(3.5f, 0.1f, 0.0f);   // Encore plus haute
-        Vector3f size2 = new Vector3f(1.2f, 0.3f, 0.1f);
-        Model model2 = createPlatformModel(size2);
-        platforms.add(new Platform(pos2, model2));
-
-        Vector3f pos3 = new Vector3f(6.0f, -0.1f, 0.0f);  // Légèrement au-dessus du sol
-        Vector3f size3 = new Vector3f(1.0f, 0.3f, 0.1f);
-        Model model3 = createPlatformModel(size3);
-        platforms.add(new Platform(pos3, model3));
+    // Demande les chunks manquants de la fenêtre, les plus proches du joueur d'abord
+    private void requestWindow() {
+        windowRequested = true;
+        int center = Chunk.indexOf(lastPlayerX);
+        for (int distance = 0; distance <= Math.max(center - firstChunk, lastChunk - center); distance++) {
+            if (!request(center + distance) || (distance > 0 && !request(center - distance))) {
+                windowRequested = false; // File pleine : on reprendra au tick suivant
+                return;
+            }
+        }
+    }
 
-        lastGeneratedX = 7.0f;
-        System.out.println("✅ " + platforms.size() + " plateformes initiales créées");
+    private boolean request(int index) {
+        if (index < firstChunk || index > lastChunk || chunks.containsKey(index)) return true;
+        return generator.requestChunk(index);
     }
 
-    private Model createPlatformModel(Vector3f size) {
-        float halfX = size.x / 2;
-        float halfY = size.y / 2;
+    private void processGeneratedChunks() {
+        int count = generator.pollGeneratedChunks(received);
+        if (count == 0) return;
 
-        float[] vertices = {
-                -halfX, -halfY, -0.2f,
-                halfX, -halfY, -0.2f,
-                halfX,  halfY, -0.2f,
-                -halfX,  halfY, -0.2f
-        };
+        int installed = 0;
+        for (int i = 0; i < count; i++) {
+            PlatformGenerator.GeneratedChunk result = received[i];
+            received[i] = null;
+            // Sorti de la fenêtre entre la demande et la réception (ou déjà là) : inutile
+            int index = result.index();
+            if (index < firstChunk || index > lastChunk || chunks.containsKey(index)) continue;
 
-        int[] indices = {0, 1, 2, 2, 3, 0};
-        float[] texCoords = {0, 0, 1, 0, 1, 1, 0, 1};
+            installChunk(index, result.platforms());
+            installed++;
+        }
 
-        Model model = loader.loadModel(vertices, texCoords, indices);
+        if (installed > 0) {
+            revision++;
+            Log.atDebug(Category.WORLD).arg(installed).arg(platformCount).log("🔨 %d chunks chargés, %d plateformes");
+        }
+    }
 
-        // ✅ Ajouter une texture ou couleur simple
-        try {
-            // ✅ CORRIGER: Chemin relatif aux resources
-            int textureId = loader.loadTexture("textures/platform.png");
-            model.setTexture(new Texture(textureId));
-            System.out.println("✅ Texture plateforme chargée");
-        } catch (Exception e) {
-            System.err.println("⚠️ Texture plateforme non trouvée, utilisation couleur par défaut");
-            // Texture par défaut (couleur unie)
-            int defaultTextureId = loader.createDefaultTexture();
-            model.setTexture(new Texture(defaultTextureId));
+    // ✅ Aucune ressource GPU par plateforme : un maillage par chunk, envoyé une fois par le rendu
+    private void installChunk(int index, List<PlatformData> platforms) {
+        Chunk chunk = new Chunk(index);
+        for (PlatformData data : platforms) {
+            addPlatform(chunk, data.getX(), data.getY(), data.getWidth(), data.getHeight(), data.getType());
         }
+        chunk.bake(); // Maillage figé ici, hors du thread GL : le rendu n'a plus qu'à l'envoyer
+        chunks.put(index, chunk);
+    }
 
-        return model;
+    private void addPlatform(Chunk chunk, float x, float y, float width, float height, int type) {
+        int slot = store.add(x, y, width, height, type, 0);
+        spatialIndex.insert(slot, store.getLeft(slot), store.getBottom(slot), store.getRight(slot), store.getTop(slot));
+        chunk.add(store, slot, PLATFORM_DEPTH);
+        platformCount++;
     }
 
-    // ✅ Méthode cruciale manquante
-    public Platform findPlatformBelow(Vector3f playerPos, Vector3f playerSize) {
-        Platform closestPlatform = null;
-        float closestDistance = Float.MAX_VALUE;
+    private boolean unloadChunk(int index) {
+        Chunk chunk = chunks.remove(index);
+        if (chunk == null) return false;
 
-        for (Platform platform : platforms) {
-            Vector3f platPos = platform.getPosition();
-            Vector3f platSize = platform.getSize(); // ✅ Maintenant disponible
+        int[] slots = chunk.getSlots();
+        for (int i = 0; i < chunk.getPlatformCount(); i++) {
+            spatialIndex.remove(slots[i]);
+            store.remove(slots[i]);
+        }
+        platformCount -= chunk.getPlatformCount();
+        return true;
+    }
 
-            // Vérifier si le joueur est horizontalement au-dessus de la plateforme
-            boolean horizontallyAligned =
-                    playerPos.x + playerSize.x/2 > platPos.x - platSize.x/2 &&
-                            playerPos.x - playerSize.x/2 < platPos.x + platSize.x/2;
+    // ✅ Obtenue du cache au premier rendu (thread GL) : un seul décodage, une seule texture GPU
+    private Texture getPlatformTexture() {
+        if (platformTexture == null) {
+            platformTexture = TextureCache.getInstance().acquire("textures/platform.png");
+        }
+        return platformTexture;
+    }
 
-            // La plateforme doit être en dessous du joueur
-            if (horizontallyAligned && platPos.y < playerPos.y) {
-                float distance = playerPos.y - platPos.y;
-                if (distance < closestDistance && distance < 1.0f) { // ✅ Distance max
-                    closestDistance = distance;
-                    closestPlatform = platform;
-                }
-            }
+    // Thread GL
+    public void cleanup() {
+        Log.atInfo(Category.WORLD).arg(generator.report()).log("📊 Génération : %s");
+        generator.shutdown();
+        if (platformTexture != null) {
+            TextureCache.getInstance().release(platformTexture);
+            platformTexture = null;
         }
+    }
 
-        return closestPlatform;
+    // ✅ Emplacement (dans getStore()) de la plateforme dont le dessus est le plus proche sous le joueur,
+    // PlatformStore.NONE sinon. Sans allocation, via l'index
+    public int findPlatformBelow(Vector3f playerPos, Vector3f playerSize) {
+        return spatialIndex.firstSurfaceBelow(
+                playerPos.x - playerSize.x / 2, playerPos.x + playerSize.x / 2,
+                playerPos.y, MAX_SURFACE_DISTANCE);
     }
 
-    // Dans PlatformManager.java - Ajouter la caméra au rendu
-    public void render(Camera camera) {
-        if (platforms.isEmpty()) {
-            System.err.println("❌ Aucune plateforme à rendre !");
-            return;
-        }
+    public PlatformStore getStore() { return store; }
 
-        for (Platform platform : platforms) {
-            Vector3f position = platform.getPosition();
-            Model model = platform.getModel();
+    // ✅ Copie des plateformes dans le snapshot (thread de simulation), seulement si elles ont changé
+    public void writeSnapshot(WorldSnapshot snapshot) {
+        if (snapshot.getPlatformRevision() == revision) return;
 
-            if (model != null && renderer != null && camera != null) {
-                // ✅ Passer la caméra
-                renderer.render(model, position, camera);
-            }
+        snapshot.beginPlatforms(revision);
+        for (int index = firstChunk; index <= lastChunk; index++) {
+            Chunk chunk = chunks.get(index);
+            if (chunk == null) continue; // Pas encore généré
+            snapshot.addChunk(chunk);
         }
     }
 
-    private void cleanupDistantPlatforms(Vector3f playerPos) {
-        platforms.removeIf(platform -> {
-            float distance = Math.abs(platform.getPosition().x - playerPos.x);
-            return distance > 20.0f; // Supprimer si trop loin
-        });
-    }
+    // ✅ Rendu depuis le snapshot (thread de rendu, aucun accès aux chunks) : un draw par chunk
+    public void render(WorldSnapshot snapshot) {
+        if (renderer == null) return;
 
-    private boolean shouldGenerateMore(Vector3f playerPos) {
-        boolean should = playerPos.x > lastGeneratedX - GENERATION_DISTANCE;
-        System.out.println("🤔 Doit générer ? " + should +
-                " (Player: " + String.format("%.2f", playerPos.x) +
-                " vs Limite: " + String.format("%.2f", lastGeneratedX - GENERATION_DISTANCE) + ")");
-        return should;
+        renderer.renderPlatforms(getPlatformTexture(), snapshot);
     }
+
+    public int getPlatformCount() { return platformCount; }
+    public int getLoadedChunkCount() { return chunks.size(); }
+    public String getGenerationReport() { return generator.report(); }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package Core.World;
+
+import java.util.Arrays;
+
+/**
+ * Plateformes en tableaux parallèles (structure de tableaux) : centre, taille, type et
+ * couche de texture, indexés par un emplacement entier. Les accès ne prennent pas de verrou
+ * et n'allouent rien ; les emplacements libérés sont réutilisés.
+ * <p>
+ * Écrit et lu par le thread de simulation ; le rendu ne voit que les copies du snapshot.
+ */
+public final class PlatformStore {
+
+    public static final int NONE = -1;
+
+    private float[] x, y, width, height;
+    private int[] type, layer;
+    private boolean[] alive;
+
+    private int[] freeSlots = new int[16];
+    private int freeCount = 0;
+    private int highWater = 0; // Emplacements déjà utilisés au moins une fois
+    private int size = 0;
+
+    public PlatformStore(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        x = new float[capacity];
+        y = new float[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+        type = new int[capacity];
+        layer = new int[capacity];
+        alive = new boolean[capacity];
+    }
+
+    // ✅ Renvoie l'emplacement de la nouvelle plateforme
+    public int add(float centerX, float centerY, float w, float h, int platformType, int textureLayer) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (highWater == x.length) grow(x.length * 2);
+            slot = highWater++;
+        }
+        x[slot] = centerX;
+        y[slot] = centerY;
+        width[slot] = w;
+        height[slot] = h;
+        type[slot] = platformType;
+        layer[slot] = textureLayer;
+        alive[slot] = true;
+        size++;
+        return slot;
+    }
+
+    public void remove(int slot) {
+        if (!alive[slot]) return;
+        alive[slot] = false;
+        size--;
+        if (freeCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        freeSlots[freeCount++] = slot;
+    }
+
+    public void clear() {
+        Arrays.fill(alive, 0, highWater, false);
+        highWater = 0;
+        freeCount = 0;
+        size = 0;
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        type = Arrays.copyOf(type, capacity);
+        layer = Arrays.copyOf(layer, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+    }
+
+    // ✅ Accès par emplacement (sans verrou, sans copie)
+    public float getX(int slot) { return x[slot]; }
+    public float getY(int slot) { return y[slot]; }
+    public float getWidth(int slot) { return width[slot]; }
+    public float getHeight(int slot) { return height[slot]; }
+    public float getTop(int slot) { return y[slot] + height[slot] / 2; }
+    public float getBottom(int slot) { return y[slot] - height[slot] / 2; }
+    public float getLeft(int slot) { return x[slot] - width[slot] / 2; }
+    public float getRight(int slot) { return x[slot] + width[slot] / 2; }
+    public int getType(int slot) { return type[slot]; }
+    public int getLayer(int slot) { return layer[slot]; }
+    public boolean isAlive(int slot) { return slot >= 0 && slot < highWater && alive[slot]; }
+
+    public int size() { return size; }
+    public int getCapacity() { return x.length; }
+}
@@ -0,0 +1,39 @@
+package Core.World;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Triple buffer sans verrou entre la simulation (un écrivain) et le rendu (un lecteur).
+ * L'écrivain remplit toujours son propre tampon puis l'échange avec le tampon du milieu ;
+ * le lecteur récupère le tampon du milieu seulement s'il est plus récent que le sien.
+ */
+public class SnapshotBuffer {
+
+    private WorldSnapshot back;   // Thread de simulation uniquement
+    private WorldSnapshot front;  // Thread de rendu uniquement
+    private final AtomicReference<WorldSnapshot> middle;
+
+    private long tick = 0;
+
+    public SnapshotBuffer(WorldSnapshot a, WorldSnapshot b, WorldSnapshot c) {
+        this.back = a;
+        this.middle = new AtomicReference<>(b);
+        this.front = c;
+    }
+
+    public WorldSnapshot beginWrite() {
+        back.begin(++tick);
+        return back;
+    }
+
+    public void publish() {
+        back = middle.getAndSet(back);
+    }
+
+    public WorldSnapshot acquireRead() {
+        if (middle.get().getTick() > front.getTick()) {
+            front = middle.getAndSet(front);
+        }
+        return front;
+    }
+}
@@ -0,0 +1,310 @@
+package Core.World;
+
+import java.util.Arrays;
+
+/**
+ * Index spatial 2D (phase large des collisions) : grille uniforme dont les cellules
+ * sont repérées par une clé {@code long} (colonne sur 32 bits hauts, ligne sur 32 bits bas)
+ * dans une table de hachage à adressage ouvert. Chaque élément est inscrit dans toutes
+ * les cellules que sa boîte recouvre ; les listes de cellules sont chaînées dans des
+ * tableaux d'entiers.
+ * <p>
+ * Les éléments sont désignés par un identifiant entier fourni par l'appelant
+ * (l'emplacement de la plateforme dans le {@link PlatformStore}).
+ * <p>
+ * Les requêtes (point, boîte, première surface en dessous) n'allouent rien.
+ * Un seul thread à la fois (thread de simulation).
+ */
+public final class SpatialIndex {
+
+    public static final int NONE = -1;
+
+    private static final long EMPTY_KEY = Long.MIN_VALUE; // Aucune cellule réelle n'a cette clé
+
+    private final float cellSize;
+    private final float invCellSize;
+
+    // ✅ Éléments : boîte englobante par identifiant
+    private float[] minX, minY, maxX, maxY;
+    private boolean[] present;
+    private int[] visitStamp; // Dernière requête ayant vu l'élément (évite les doublons)
+    private int itemCapacity = 0;
+    private int size = 0;
+    private int stamp = 0;
+
+    // ✅ Entrées (élément, suivante) des listes chaînées de cellules
+    private int[] entryItem, entryNext;
+    private int entryCount = 0;
+    private int freeEntry = NONE;
+
+    // ✅ Table clé de cellule -> première entrée (sondage linéaire)
+    private long[] cellKeys;
+    private int[] cellHeads;
+    private int cellCount = 0;
+
+    public SpatialIndex(float cellSize) {
+        this(cellSize, 64);
+    }
+
+    public SpatialIndex(float cellSize, int expectedItems) {
+        this.cellSize = cellSize;
+        this.invCellSize = 1.0f / cellSize;
+        int capacity = Math.max(16, expectedItems);
+        growItems(capacity);
+        entryItem = new int[capacity * 2];
+        entryNext = new int[capacity * 2];
+        int tableSize = Integer.highestOneBit(capacity * 4 - 1) << 1;
+        cellKeys = new long[tableSize];
+        cellHeads = new int[tableSize];
+        Arrays.fill(cellKeys, EMPTY_KEY);
+    }
+
+    private static long key(int column, int row) {
+        return ((long) column << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    private int cell(float coordinate) {
+        return (int) Math.floor(coordinate * invCellSize);
+    }
+
+    // ==================== INSERTION / SUPPRESSION ====================
+
+    // ✅ Inscrit l'élément id avec sa boîte englobante (remplace son ancienne boîte s'il y est déjà)
+    public void insert(int id, float x0, float y0, float x1, float y1) {
+        if (id >= itemCapacity) growItems(Math.max(id + 1, itemCapacity * 2));
+        if (present[id]) remove(id);
+        size++;
+        minX[id] = x0;
+        minY[id] = y0;
+        maxX[id] = x1;
+        maxY[id] = y1;
+        present[id] = true;
+        visitStamp[id] = stamp;
+
+        for (int column = cell(x0), lastColumn = cell(x1); column <= lastColumn; column++) {
+            for (int row = cell(y0), lastRow = cell(y1); row <= lastRow; row++) {
+                link(key(column, row), id);
+            }
+        }
+    }
+
+    public void remove(int id) {
+        if (id >= itemCapacity || !present[id]) return;
+        for (int column = cell(minX[id]), lastColumn = cell(maxX[id]); column <= lastColumn; column++) {
+            for (int row = cell(minY[id]), lastRow = cell(maxY[id]); row <= lastRow; row++) {
+                unlink(key(column, row), id);
+            }
+        }
+        present[id] = false;
+        size--;
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && id < itemCapacity && present[id];
+    }
+
+    public int size() { return size; }
+    public int getCellCount() { return cellCount; }
+    public float getCellSize() { return cellSize; }
+
+    public void clear() {
+        Arrays.fill(present, false);
+        Arrays.fill(cellKeys, EMPTY_KEY);
+        size = 0;
+        entryCount = 0;
+        freeEntry = NONE;
+        cellCount = 0;
+    }
+
+    // ==================== REQUÊTES (sans allocation) ====================
+
+    // ✅ Premier élément dont la boîte contient le point, ou NONE
+    public int queryPoint(float x, float y) {
+        for (int entry = head(key(cell(x), cell(y))); entry != NONE; entry = entryNext[entry]) {
+            int id = entryItem[entry];
+            if (x >= minX[id] && x <= maxX[id] && y >= minY[id] && y <= maxY[id]) return id;
+        }
+        return NONE;
+    }
+
+    // ✅ Éléments qui chevauchent la boîte, écrits dans out ; renvoie leur nombre (borné par out.length)
+    public int queryAabb(float x0, float y0, float x1, float y1, int[] out) {
+        int visit = nextStamp();
+        int found = 0;
+        for (int column = cell(x0), lastColumn = cell(x1); column <= lastColumn; column++) {
+            for (int row = cell(y0), lastRow = cell(y1); row <= lastRow; row++) {
+                for (int entry = head(key(column, row)); entry != NONE; entry = entryNext[entry]) {
+                    int id = entryItem[entry];
+                    if (visitStamp[id] == visit) continue;
+                    visitStamp[id] = visit;
+                    if (maxX[id] >= x0 && minX[id] <= x1 && maxY[id] >= y0 && minY[id] <= y1) {
+                        if (found == out.length) return found;
+                        out[found++] = id;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Élément dont le dessus est le plus haut sous {@code y}, à moins de {@code maxDistance},
+     * parmi ceux qui chevauchent strictement l'intervalle [x0, x1]. NONE si aucun.
+     */
+    public int firstSurfaceBelow(float x0, float x1, float y, float maxDistance) {
+        int visit = nextStamp();
+        int best = NONE;
+        float bestTop = -Float.MAX_VALUE;
+        for (int column = cell(x0), lastColumn = cell(x1); column <= lastColumn; column++) {
+            // Du haut vers le bas : toute boîte dont le dessus est dans [y - maxDistance, y] a une cellule dans ces lignes
+            for (int row = cell(y), lastRow = cell(y - maxDistance); row >= lastRow; row--) {
+                for (int entry = head(key(column, row)); entry != NONE; entry = entryNext[entry]) {
+                    int id = entryItem[entry];
+                    if (visitStamp[id] == visit) continue;
+                    visitStamp[id] = visit;
+
+                    float top = maxY[id];
+                    if (top <= y && y - top < maxDistance && top > bestTop
+                            && maxX[id] > x0 && minX[id] < x1) {
+                        best = id;
+                        bestTop = top;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    public float getMinX(int id) { return minX[id]; }
+    public float getMinY(int id) { return minY[id]; }
+    public float getMaxX(int id) { return maxX[id]; }
+    public float getMaxY(int id) { return maxY[id]; }
+
+    private int nextStamp() {
+        if (++stamp == Integer.MAX_VALUE) {
+            // Rebouclage (très rare) : plus aucun élément ne doit passer pour déjà visité
+            Arrays.fill(visitStamp, 0);
+            stamp = 1;
+        }
+        return stamp;
+    }
+
+    // ==================== LISTES DE CELLULES ====================
+
+    private void link(long key, int id) {
+        int entry;
+        if (freeEntry != NONE) {
+            entry = freeEntry;
+            freeEntry = entryNext[entry];
+        } else {
+            if (entryCount == entryItem.length) {
+                entryItem = Arrays.copyOf(entryItem, entryCount * 2);
+                entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+            }
+            entry = entryCount++;
+        }
+        entryItem[entry] = id;
+
+        int slot = findSlot(key);
+        if (cellKeys[slot] == EMPTY_KEY) {
+            cellKeys[slot] = key;
+            entryNext[entry] = NONE;
+            cellHeads[slot] = entry;
+            if (++cellCount * 2 > cellKeys.length) growCells();
+        } else {
+            entryNext[entry] = cellHeads[slot];
+            cellHeads[slot] = entry;
+        }
+    }
+
+    private void unlink(long key, int id) {
+        int slot = findSlot(key);
+        if (cellKeys[slot] == EMPTY_KEY) return;
+
+        int previous = NONE;
+        for (int entry = cellHeads[slot]; entry != NONE; previous = entry, entry = entryNext[entry]) {
+            if (entryItem[entry] != id) continue;
+            if (previous == NONE) {
+                cellHeads[slot] = entryNext[entry];
+            } else {
+                entryNext[previous] = entryNext[entry];
+            }
+            entryNext[entry] = freeEntry;
+            freeEntry = entry;
+            break;
+        }
+        if (cellHeads[slot] == NONE) removeSlot(slot);
+    }
+
+    private int head(long key) {
+        int slot = findSlot(key);
+        return cellKeys[slot] == EMPTY_KEY ? NONE : cellHeads[slot];
+    }
+
+    // Case de la clé, ou case vide où l'insérer
+    private int findSlot(long key) {
+        int mask = cellKeys.length - 1;
+        int slot = mix(key) & mask;
+        while (cellKeys[slot] != EMPTY_KEY && cellKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // ✅ Suppression par décalage arrière : pas de pierres tombales, les sondages restent courts
+    private void removeSlot(int slot) {
+        int mask = cellKeys.length - 1;
+        cellKeys[slot] = EMPTY_KEY;
+        cellCount--;
+        int next = (slot + 1) & mask;
+        while (cellKeys[next] != EMPTY_KEY) {
+            int home = mix(cellKeys[next]) & mask;
+            // La clé de next peut-elle combler le trou (le trou est entre sa case idéale et next) ?
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                cellKeys[slot] = cellKeys[next];
+                cellHeads[slot] = cellHeads[next];
+                cellKeys[next] = EMPTY_KEY;
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    private void growCells() {
+        long[] oldKeys = cellKeys;
+        int[] oldHeads = cellHeads;
+        cellKeys = new long[oldKeys.length * 2];
+        cellHeads = new int[oldHeads.length * 2];
+        Arrays.fill(cellKeys, EMPTY_KEY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY_KEY) continue;
+            int slot = findSlot(oldKeys[i]);
+            cellKeys[slot] = oldKeys[i];
+            cellHeads[slot] = oldHeads[i];
+        }
+    }
+
+    private void growItems(int capacity) {
+        minX = grow(minX, capacity);
+        minY = grow(minY, capacity);
+        maxX = grow(maxX, capacity);
+        maxY = grow(maxY, capacity);
+        present = present == null ? new boolean[capacity] : Arrays.copyOf(present, capacity);
+        visitStamp = visitStamp == null ? new int[capacity] : Arrays.copyOf(visitStamp, capacity);
+        itemCapacity = capacity;
+    }
+
+    private static float[] grow(float[] array, int capacity) {
+        return array == null ? new float[capacity] : Arrays.copyOf(array, capacity);
+    }
+
+    // Mélange des bits (finaliseur de MurmurHash3) : colonnes et lignes voisines dispersées
+    private static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
@@ -0,0 +1,95 @@
+package Core.World;
+
+import Core.Entities.Camera;
+import Core.Entities.TextureRegion;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+
+/**
+ * État du monde figé à la fin d'un tick, lu par le thread de rendu.
+ * Les instances sont réutilisées par {@link SnapshotBuffer} : aucun objet
+ * n'est alloué par tick une fois les tableaux à la bonne taille.
+ */
+public class WorldSnapshot {
+
+    private volatile long tick;
+
+    // État au tick précédent et au tick courant, pour l'interpolation du rendu
+    private final Camera previousCamera;
+    private final Camera camera;
+
+    private final Vector3f previousPlayerPosition = new Vector3f();
+    private final Vector3f playerPosition = new Vector3f();
+    private TextureRegion playerFrame; // Région de l'atlas du joueur
+
+    // ✅ Chunks chargés : références vers leurs maillages figés (aucune copie de sommets),
+    // remplacées seulement si la révision change
+    private int[] chunkIndices = new int[16];
+    private float[][] chunkVertices = new float[16][];
+    private float[] chunkBounds = new float[16 * 4]; // minX, minY, maxX, maxY
+    private int chunkCount;
+    private long platformRevision = -1;
+
+    public WorldSnapshot(Camera camera) {
+        this.previousCamera = new Camera(1.0f);
+        this.previousCamera.set(camera);
+        this.camera = new Camera(1.0f);
+        this.camera.set(camera);
+    }
+
+    // ✅ Écriture (thread de simulation)
+    public void begin(long tick) {
+        this.tick = tick;
+    }
+
+    public void setCamera(Camera previous, Camera current) {
+        previousCamera.set(previous);
+        camera.set(current);
+    }
+
+    public void setPlayer(Vector3f previousPosition, Vector3f position, TextureRegion frame) {
+        previousPlayerPosition.set(previousPosition);
+        playerPosition.set(position);
+        playerFrame = frame;
+    }
+
+    // ✅ Remplace l'ensemble des chunks (appelé uniquement quand la révision a changé)
+    public void beginPlatforms(long revision) {
+        platformRevision = revision;
+        Arrays.fill(chunkVertices, 0, chunkCount, null); // Pas de rétention des chunks déchargés
+        chunkCount = 0;
+    }
+
+    public void addChunk(Chunk chunk) {
+        if (chunkCount == chunkIndices.length) {
+            chunkIndices = Arrays.copyOf(chunkIndices, chunkCount * 2);
+            chunkVertices = Arrays.copyOf(chunkVertices, chunkCount * 2);
+            chunkBounds = Arrays.copyOf(chunkBounds, chunkCount * 2 * 4);
+        }
+        chunkIndices[chunkCount] = chunk.getIndex();
+        chunkVertices[chunkCount] = chunk.getVertices();
+        int b = chunkCount * 4;
+        chunkBounds[b] = chunk.getMinX();
+        chunkBounds[b + 1] = chunk.getMinY();
+        chunkBounds[b + 2] = chunk.getMaxX();
+        chunkBounds[b + 3] = chunk.getMaxY();
+        chunkCount++;
+    }
+
+    // ✅ Lecture (thread de rendu)
+    public long getTick() { return tick; }
+    public Camera getPreviousCamera() { return previousCamera; }
+    public Camera getCamera() { return camera; }
+    public Vector3f getPreviousPlayerPosition() { return previousPlayerPosition; }
+    public Vector3f getPlayerPosition() { return playerPosition; }
+    public TextureRegion getPlayerFrame() { return playerFrame; }
+    public long getPlatformRevision() { return platformRevision; }
+    public int getChunkCount() { return chunkCount; }
+    public int getChunkIndex(int i) { return chunkIndices[i]; }
+    public float[] getChunkVertices(int i) { return chunkVertices[i]; }
+    public float getChunkMinX(int i) { return chunkBounds[i * 4]; }
+    public float getChunkMinY(int i) { return chunkBounds[i * 4 + 1]; }
+    public float getChunkMaxX(int i) { return chunkBounds[i * 4 + 2]; }
+    public float getChunkMaxY(int i) { return chunkBounds[i * 4 + 3]; }
+}
@@ -1,33 +1,97 @@
 package Laucher;
 
+import Core.AssetArchive;
+import Core.Backend;
 import Core.EngineManager;
+import Core.FramePacer;
+import Core.GLTaskQueue;
+import Core.TextureCache;
+import Core.Logging.Category;
+import Core.Logging.Log;
 import Core.Utils.Consts;
 import Render.GameBackground;
 import Render.Window;
-import Core.World.PlatformGenerator;
+import Core.World.Config;
 import org.lwjgl.Version;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 public class Main {
 
     private volatile static Window window;
     public static TestGame game;
     private static GameBackground background;
-    private static PlatformGenerator platforms;
 
     public static void main(String[] args) {
 
-        System.out.println("LWJGL Version: " + Version.getVersion());
+
+        // ✅ --log=debug ou --log=WORLD:debug,PLAYER:debug, --log-file=fichier : journal asynchrone
+        // ✅ --headless [--ticks=N] : simulation sans fenêtre pour les benchmarks
+        // ✅ --max-steps=N : rattrapage max par frame
+        // ✅ --fps=N, --pacing=hybrid|sleep|spin|off (--uncapped = off) : cadence du rendu, F1 en jeu
+        // ✅ --texture-budget=Mo : mémoire GPU max des textures en cache non utilisées
+        // ✅ --gl-budget=ms : temps max par frame pour les tâches GL différées
+        // ✅ --seed=N : graine du monde (mêmes plateformes à chaque partie)
+        // ✅ --assets=fichier.pak : archive de ressources (par défaut build/assets.pak si présente)
+        long headlessTicks = 0;
+        float targetFps = EngineManager.FRAMERATE;
+        FramePacer.Mode pacing = FramePacer.Mode.HYBRID;
+        int maxSteps = 5;
+        Path statsFile = Path.of("frame_stats.txt"); // --stats=fichier : histogrammes par phase
+        for (String arg : args) {
+            if (arg.equals("--headless")) {
+                Backend.setHeadless(true);
+            } else if (arg.startsWith("--ticks=")) {
+                headlessTicks = Long.parseLong(arg.substring("--ticks=".length()));
+            } else if (arg.equals("--uncapped")) {
+                pacing = FramePacer.Mode.OFF;
+            } else if (arg.startsWith("--pacing=")) {
+                pacing = FramePacer.Mode.valueOf(arg.substring("--pacing=".length()).toUpperCase());
+            } else if (arg.startsWith("--log=")) {
+                Log.configure(arg.substring("--log=".length()));
+            } else if (arg.startsWith("--log-file=")) {
+                try {
+                    Log.setFile(Path.of(arg.substring("--log-file=".length())));
+                } catch (IOException e) {
+                    Log.atError(Category.GAME).cause(e).log("❌ Fichier de log inaccessible");
+                }
+            } else if (arg.startsWith("--stats=")) {
+                statsFile = Path.of(arg.substring("--stats=".length()));
+            } else if (arg.startsWith("--fps=")) {
+                targetFps = Float.parseFloat(arg.substring("--fps=".length()));
+            } else if (arg.startsWith("--texture-budget=")) {
+                TextureCache.getInstance().setBudgetBytes(
+                        Long.parseLong(arg.substring("--texture-budget=".length())) * 1024 * 1024);
+            } else if (arg.startsWith("--gl-budget=")) {
+                GLTaskQueue.setBudgetMillis(Double.parseDouble(arg.substring("--gl-budget=".length())));
+            } else if (arg.startsWith("--seed=")) {
+                Config.setWorldSeed(Long.parseLong(arg.substring("--seed=".length())));
+            } else if (arg.startsWith("--assets=")) {
+                AssetArchive.mount(Path.of(arg.substring("--assets=".length())));
+            } else if (arg.startsWith("--max-steps=")) {
+                maxSteps = Integer.parseInt(arg.substring("--max-steps=".length()));
+            }
+        }
+
+        Log.atInfo(Category.GAME).arg(Version.getVersion()).log("LWJGL Version: %s");
 
         window = new Window(Consts.TITLE + "Initializing...", 1200, 800, false);
         game = new TestGame();
         background = new GameBackground();
-        platforms = new PlatformGenerator();
         EngineManager engine = new EngineManager();
+        engine.setHeadlessTicks(headlessTicks);
+        engine.getFramePacer().setMode(pacing);
+        engine.getFramePacer().setTargetRate(targetFps);
+        engine.setMaxStepsPerFrame(maxSteps);
+        engine.setStatsFile(statsFile);
 
         try{
             engine.start();
         }catch(Exception e){
-            e.printStackTrace();
+            Log.atError(Category.GAME).cause(e).log("❌ Erreur fatale du moteur");
+        }finally{
+            Log.shutdown();
         }
     }
 
@@ -1,13 +1,20 @@
 package Laucher;
 
 import Core.Entities.Camera;
-import Core.Entities.Model;
 import Core.Entities.Player;
-import Core.Entities.Texture;
+import Core.Entities.TextureRegion;
+import Core.Backend;
+import Core.EngineManager;
+import Core.ILoader;
+import Core.Metrics.FrameProfiler;
+import Core.IRenderer;
+import Core.TextureCache;
 import Core.Ilogic;
-import Core.ObjectLoader;
-import Core.RenderManager;
+import Core.Logging.Category;
+import Core.Logging.Log;
 import Core.World.PlatformManager;
+import Core.World.SnapshotBuffer;
+import Core.World.WorldSnapshot;
 import Render.Window;
 
 import org.joml.Vector3f;
@@ -18,21 +25,40 @@ import static Laucher.Main.game;
 
 public class TestGame implements Ilogic {
 
-    private final RenderManager renderer;
-    private final ObjectLoader loader;
+    private static final float PLAYER_WIDTH = 0.8f;
+    private static final float PLAYER_HEIGHT = 1.2f;
+
+    private final IRenderer renderer;
+    private final ILoader loader;
     private final Window window;
     private volatile PlatformManager platforms;
     private Camera camera;
 
     private volatile Player player; // ✅ volatile pour visibilité entre threads
 
-    // ✅ Verrou pour les opérations de rendu
-    private final Object renderLock = new Object();
+    // ✅ Snapshots échangés entre la simulation et le rendu
+    private SnapshotBuffer snapshots;
+    private final Vector3f playerPosition = new Vector3f(); // Thread de simulation : update() et publish()
+    private final Vector3f previousPlayerPosition = new Vector3f();
+    private Camera previousCamera;
+
+    // ✅ État interpolé entre les deux derniers ticks (thread de rendu)
+    private Camera renderCamera;
+    private WorldSnapshot renderSnapshot; // Figé par latchSnapshot() : front du triple buffer
+    private final Vector3f renderPlayerPosition = new Vector3f();
+
+    // ✅ Script headless : sens de course, demi-tour près des limites du monde
+    private static final float SCRIPT_TURN_MARGIN = 1.0f;
+    private final Vector3f scriptPosition = new Vector3f();
+    private int scriptDirection = 1;
+
+    // Nouveau ratio posé par le rendu lors d'un resize, appliqué par la simulation
+    private volatile float pendingAspectRatio = 0.0f;
 
     public TestGame() {
-        renderer = new RenderManager();
+        renderer = Backend.createRenderer();
         window = Main.getWindow();
-        loader = ObjectLoader.getInstance(); // ✅ Utilise le singleton
+        loader = Backend.getLoader(); // ✅ Utilise le singleton
     }
 
     @Override
@@ -40,64 +66,42 @@ public class TestGame implements Ilogic {
         renderer.init();
         float aspectRatio = (float) window.getWidth() / window.getHeight();
         camera = new Camera(aspectRatio);
+        previousCamera = new Camera(aspectRatio);
+        renderCamera = new Camera(aspectRatio);
 
         platforms = new PlatformManager(TestGame.getRenderer());
 
-        // ✅ Géométrie du joueur (quad 2D)
-        float[] vertices = {
-               -0.4f,  -0.6f,  0.0f,  // Bas gauche
-               -0.4f,   0.6f,  0.0f,  // Haut gauche
-                0.4f,   0.6f,  0.0f,  // Haut droit
-                0.4f,  -0.6f,  0.0f   // Bas droit
-        };
-
-        int[] indices = {
-                0, 1, 3,  // Premier triangle
-                3, 1, 2   // Deuxième triangle
-        };
-
-        float[] textureCoords = {
-                0.0f, 1.0f,  // Bas gauche -> correspond au haut de l'image
-                0.0f, 0.0f,  // Haut gauche -> correspond au bas de l'image
-                1.0f, 0.0f,  // Haut droit -> correspond au bas de l'image
-                1.0f, 1.0f   // Bas droit -> correspond au haut de l'image
-        };
-
-        // ✅ Création du modèle avec le loader singleton
-        Model model = loader.loadModel(vertices, textureCoords, indices);
-        player = new Player(model); // ✅ Plus besoin de passer le loader
+        player = new Player(); // ✅ Dessiné en sprite (région de l'atlas), sans modèle propre
         player.setPlatformManager(platforms);
 
-        // ✅ Chargement de la texture initiale avec gestion d'erreur
-        initializePlayerTexture(model);
+        platforms.inits();
 
-        System.out.println("✅ TestGame initialisé avec succès !");
+        snapshots = new SnapshotBuffer(
+                new WorldSnapshot(camera),
+                new WorldSnapshot(camera),
+                new WorldSnapshot(camera));
 
-        System.out.println("✅ TestGame avec plateformes initialisé !");
-    }
+        Log.atInfo(Category.GAME).log("✅ TestGame initialisé avec succès !");
 
-    // ✅ Méthode séparée pour l'initialisation de la texture
-    private void initializePlayerTexture(Model model) {
-        try {
-            int textureId = loader.loadTexture("src/main/resources/textures/player1.png");
-            model.setTexture(new Texture(textureId));
-            System.out.println("✅ Texture initiale du joueur chargée ! ID: " + textureId);
-        } catch (Exception e) {
-            System.err.println("❌ Erreur chargement texture initiale : " + e.getMessage());
-            try {
-                int defaultTextureId = loader.createDefaultTexture();
-                model.setTexture(new Texture(defaultTextureId));
-                System.out.println("⚠️ Utilisation de la texture par défaut");
-            } catch (Exception fallbackError) {
-                System.err.println("❌ Impossible de créer une texture par défaut");
-            }
-        }
+        Log.atInfo(Category.GAME).log("✅ TestGame avec plateformes initialisé !");
     }
 
     @Override
     public void input() {
         if (player == null) return;
 
+        // ✅ Headless : pas de clavier, le joueur saute en continu et fait des allers-retours
+        // entre les limites du monde, pour que les chunks restent chargés, générés et déchargés
+        if (Backend.isHeadless()) {
+            float x = player.getPosition(scriptPosition).x;
+            if (x >= Player.WORLD_MAX_X - SCRIPT_TURN_MARGIN) scriptDirection = -1;
+            if (x <= Player.WORLD_MIN_X + SCRIPT_TURN_MARGIN) scriptDirection = 1;
+            player.moveRight(scriptDirection > 0);
+            player.moveLeft(scriptDirection < 0);
+            player.jump();
+            return;
+        }
+
         // ✅ Gestion des entrées avec vérification
         try {
             // Saut avec W ou SPACE
@@ -112,7 +116,7 @@ public class TestGame implements Ilogic {
             player.moveRight(window.isKeyPressed(GLFW.GLFW_KEY_D));
 
         } catch (Exception e) {
-            System.err.println("❌ Erreur dans input(): " + e.getMessage());
+            Log.atError(Category.GAME).cause(e).log("❌ Erreur dans input()");
         }
     }
 
@@ -120,7 +124,20 @@ public class TestGame implements Ilogic {
     public void update() {
         if (player != null) {
             try {
-                Vector3f playerPos = player.getPosition();
+                Vector3f playerPos = player.getPosition(playerPosition);
+
+                // État avant le tick, pour l'interpolation du rendu
+                previousPlayerPosition.set(playerPos);
+                if (camera != null) {
+                    previousCamera.set(camera);
+                }
+
+                // ✅ Resize demandé par le thread de rendu
+                float aspectRatio = pendingAspectRatio;
+                if (aspectRatio > 0.0f && camera != null) {
+                    pendingAspectRatio = 0.0f;
+                    camera.setAspectRatio(aspectRatio);
+                }
 
                 // ✅ Mettre à jour la caméra pour suivre le joueur
                 if (camera != null) {
@@ -128,63 +145,95 @@ public class TestGame implements Ilogic {
                 }
 
                 if (platforms != null) {
+                    long phaseStart = FrameProfiler.begin();
                     platforms.update(playerPos);
+                    FrameProfiler.end(FrameProfiler.Phase.PLATFORM_UPDATE, phaseStart);
                 }
 
                 player.update();
             } catch (Exception e) {
-                System.err.println("❌ Erreur dans update(): " + e.getMessage());
+                Log.atError(Category.GAME).cause(e).log("❌ Erreur dans update()");
             }
         }
     }
 
+    // ✅ Fige l'état du dernier tick du lot pour le thread de rendu
+    @Override
+    public void publish() {
+        if (snapshots == null || player == null) return;
+
+        WorldSnapshot snapshot = snapshots.beginWrite();
+        snapshot.setCamera(previousCamera, camera);
+        snapshot.setPlayer(previousPlayerPosition, player.getPosition(playerPosition), player.getCurrentFrame());
+        if (platforms != null) {
+            platforms.writeSnapshot(snapshot);
+        }
+        snapshots.publish();
+    }
+
+    // ✅ Appelé par EngineManager entre deux lots : un seul tick rendu par frame, connu d'avance
+    @Override
+    public void latchSnapshot() {
+        if (snapshots != null) {
+            renderSnapshot = snapshots.acquireRead();
+        }
+    }
+
     @Override
     public void render() {
         try {
             if (window.isResize()) {
                 GL11.glViewport(0, 0, window.getWidth(), window.getHeight());
 
-                // ✅ Mettre à jour l'aspect ratio de la caméra
-                float newAspectRatio = (float) window.getWidth() / window.getHeight();
-                if (camera != null) {
-                    camera.setAspectRatio(newAspectRatio);
-                }
+                // ✅ L'aspect ratio est appliqué à la caméra au prochain tick
+                pendingAspectRatio = (float) window.getWidth() / window.getHeight();
 
                 window.setResize(false);
             }
 
-            synchronized (renderLock) {
-                // ✅ Passer les matrices de caméra au renderer si nécessaire
-                renderWorld();
-                renderPlayer();
-            }
+            if (snapshots == null) return;
+
+            // ✅ Rendu du snapshot figé par latchSnapshot(), sans verrou
+            WorldSnapshot snapshot = renderSnapshot;
+            if (snapshot == null || snapshot.getTick() == 0) return;
+
+            // ✅ Interpolation entre le tick précédent et le tick courant
+            float alpha = EngineManager.getAlpha();
+            renderCamera.interpolate(snapshot.getPreviousCamera(), snapshot.getCamera(), alpha);
+            snapshot.getPreviousPlayerPosition().lerp(snapshot.getPlayerPosition(), alpha, renderPlayerPosition);
+
+            // ✅ Matrices caméra envoyées une seule fois pour toute la frame
+            renderer.setCamera(renderCamera);
+
+            // ✅ Plateformes (chunks visibles), puis le joueur dans le lot de sprites
+            renderWorld(snapshot);
+            renderer.begin();
+            renderPlayer(snapshot);
+            renderer.end();
 
         } catch (Exception e) {
-            System.err.println("❌ Erreur dans render(): " + e.getMessage());
+            Log.atError(Category.GAME).cause(e).log("❌ Erreur dans render()");
         }
     }
 
     // ✅ Méthode séparée pour le rendu du joueur
-    // Dans TestGame.java - Modifier les méthodes de rendu
-    private void renderPlayer() {
-        if (player == null || camera == null) return;
-
-        Model playerModel = player.getModel();
-        if (playerModel == null) return;
-
-        if (playerModel.getTexture() != null) {
-            // ✅ Passer la caméra au renderer
-            renderer.render(playerModel, player.getPosition(), camera);
+    private void renderPlayer(WorldSnapshot snapshot) {
+        TextureRegion frame = snapshot.getPlayerFrame();
+
+        if (frame != null) {
+            // Quad 0.8 x 1.2, frame courante de l'atlas (même texture pour toutes les frames)
+            renderer.drawSprite(frame.getTexture(),
+                    renderPlayerPosition.x, renderPlayerPosition.y, renderPlayerPosition.z,
+                    PLAYER_WIDTH, PLAYER_HEIGHT, frame.getU0(), frame.getV0(), frame.getU1(), frame.getV1());
         }
     }
 
-    private void renderWorld() {
-        if (platforms != null && camera != null) {
+    private void renderWorld(WorldSnapshot snapshot) {
+        if (platforms != null) {
             try {
-                // ✅ Les plateformes devront aussi recevoir la caméra
-                platforms.render(camera);
+                platforms.render(snapshot);
             } catch (Exception e) {
-                System.err.println("❌ Erreur rendu monde: " + e.getMessage());
+                Log.atError(Category.RENDER).cause(e).log("❌ Erreur rendu monde");
             }
         }
     }
@@ -192,23 +241,28 @@ public class TestGame implements Ilogic {
     @Override
     public void cleanup() {
         try {
+            if (platforms != null) {
+                platforms.cleanup();
+            }
+
             if (renderer != null) {
                 renderer.cleanup();
             }
 
             // ✅ Le singleton s'occupe de son propre cleanup
             if (loader != null) {
+                TextureCache.getInstance().clear();
                 loader.cleanup();
             }
 
-            System.out.println("✅ TestGame nettoyé");
+            Log.atInfo(Category.GAME).log("✅ TestGame nettoyé");
 
         } catch (Exception e) {
-            System.err.println("❌ Erreur dans cleanup(): " + e.getMessage());
+            Log.atError(Category.GAME).cause(e).log("❌ Erreur dans cleanup()");
         }
     }
 
-    public static RenderManager getRenderer() {
+    public static IRenderer getRenderer() {
         return game != null ? game.renderer : null;
     }
 
@@ -216,4 +270,8 @@ public class TestGame implements Ilogic {
     public Camera getCamera() {
         return camera;
     }
+
+    public PlatformManager getPlatforms() {
+        return platforms;
+    }
 }
\ No newline at end of file
@@ -1,13 +1,15 @@
 package Render;
 
 import Core.Entities.Model;
+import Core.Logging.Category;
+import Core.Logging.Log;
+import Core.Metrics.RenderStats;
+import Core.GLState;
 import Core.ShaderManager;
 import Core.Utils.Utils;
 import Laucher.Main;
 import org.joml.Vector3f;
 import org.lwjgl.opengl.GL11;
-import org.lwjgl.opengl.GL20;
-import org.lwjgl.opengl.GL30;
 
 public class BackgroundManager {
 
@@ -29,12 +31,12 @@ public class BackgroundManager {
         shader.createUniform("time");
         shader.createUniform("resolution");
 
-        System.out.println("✅ BackgroundManager initialisé avec succès !");
+        Log.atInfo(Category.RENDER).log("✅ BackgroundManager initialisé avec succès !");
     }
 
     public void render(Model model, Vector3f position) {
         if (model == null) {
-            System.err.println("❌ Tentative de rendu d'un modèle null !");
+            Log.atError(Category.RENDER).log("❌ Tentative de rendu d'un modèle null !");
             return;
         }
 
@@ -47,22 +49,12 @@ public class BackgroundManager {
         // Passer la résolution de la fenêtre
         shader.setUniform("resolution", (float)window.getWidth(), (float)window.getHeight());
 
-        // Bind du VAO
-        GL30.glBindVertexArray(model.getId());
-        GL20.glEnableVertexAttribArray(0); // Position
-
-        // Le background n'a pas besoin de coordonnées de texture
-        // mais, on les active quand même si elles existent
-        GL20.glEnableVertexAttribArray(1); // Texture coordinates (optionnel)
+        // Bind du VAO (attributs activés à sa création)
+        GLState.bindVertexArray(model.getId());
 
         // Rendu des triangles
         GL11.glDrawElements(GL11.GL_TRIANGLES, model.getVertexCount(), GL11.GL_UNSIGNED_INT, 0);
-
-        // Cleanup
-        GL20.glDisableVertexAttribArray(0);
-        GL20.glDisableVertexAttribArray(1);
-        GL30.glBindVertexArray(0);
-        shader.unbind();
+        RenderStats.drawCall(model.getVertexCount());
     }
 
     public void cleanup() {
@@ -2,14 +2,17 @@ package Render;
 
 import Core.Entities.Model;
 import Core.Ilogic;
-import Core.ObjectLoader;
+import Core.Logging.Category;
+import Core.Logging.Log;
+import Core.Backend;
+import Core.ILoader;
 import Laucher.Main;
 import org.joml.Vector3f;
 
 public class GameBackground implements Ilogic {
 
     private final BackgroundManager renderer;
-    private final ObjectLoader loader;
+    private final ILoader loader;
     public final Window window;
 
     private Model backgroundModel;
@@ -17,7 +20,7 @@ public class GameBackground implements Ilogic {
     public GameBackground() {
         renderer = new BackgroundManager();
         window = Main.getWindow();
-        loader = ObjectLoader.getInstance();
+        loader = Backend.getLoader();
     }
 
     @Override
@@ -47,7 +50,7 @@ public class GameBackground implements Ilogic {
         };
 
         backgroundModel = loader.loadModel(vertices, textureCoords, indices);
-        System.out.println("✅ Background model créé avec succès !");
+        Log.atInfo(Category.RENDER).log("✅ Background model créé avec succès !");
     }
 
     @Override
@@ -67,7 +70,7 @@ public class GameBackground implements Ilogic {
             Vector3f position = new Vector3f(0.0f, 0.0f, 0.0f);
             renderer.render(backgroundModel, position);
         } else {
-            System.err.println("❌ Background model est null !");
+            Log.atError(Category.RENDER).log("❌ Background model est null !");
         }
     }
 
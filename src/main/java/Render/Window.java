@@ -1,6 +1,7 @@
 package Render;
 
-import org.lwjgl.glfw.GLFWErrorCallback;
+import Core.GLState;
+import Core.KtxImage;
 import org.lwjgl.glfw.GLFWVidMode;
 import org.lwjgl.system.MemoryUtil;
 
@@ -26,8 +27,6 @@ public class Window {
     }
 
     public void init(){
-        GLFWErrorCallback.createPrint(System.err).set();
-
         if(!glfwInit())
             throw new IllegalStateException("Unable to initialize GLFW");
 
@@ -35,7 +34,7 @@ public class Window {
         glfwWindowHint(GLFW_VISIBLE, GL_FALSE);
         glfwWindowHint(GLFW_RESIZABLE, GL_TRUE);
         glfwWindowHint(GLFW_CONTEXT_VERSION_MAJOR, 3);
-        glfwWindowHint(GLFW_CONTEXT_VERSION_MINOR, 2);
+        glfwWindowHint(GLFW_CONTEXT_VERSION_MINOR, 3); // 3.3 : attributs par instance
         glfwWindowHint(GLFW_OPENGL_FORWARD_COMPAT, GL_TRUE);
 
         boolean maximised = false;
@@ -73,7 +72,7 @@ public class Window {
         glfwMakeContextCurrent(window);
 
         // Créer les capacités OpenGL - TRÈS IMPORTANT
-        createCapabilities();
+        KtxImage.selectTranscodeTarget(createCapabilities()); // Format GPU des textures .ktx2 compressées
 
         if(isvSync())
             glfwSwapInterval(1);
@@ -82,10 +81,11 @@ public class Window {
 
 
         // Activer GL_DEPTH_TEST pour le rendu 3D
-        glEnable(GL_DEPTH_TEST);
-        glEnable(GL_STENCIL_TEST);
-        glEnable(GL_BLEND);
-        glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
+        GLState.invalidate(); // Nouveau contexte
+        GLState.enable(GL_DEPTH_TEST);
+        GLState.enable(GL_STENCIL_TEST);
+        GLState.enable(GL_BLEND);
+        GLState.blendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
 
     }
 
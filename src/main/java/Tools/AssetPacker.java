@@ -0,0 +1,91 @@
+package Tools;
+
+import Core.AssetArchive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Outil hors jeu (tâche Gradle {@code packAssets}) : regroupe tous les fichiers d'un dossier
+ * de ressources dans une archive {@link AssetArchive}, index haché en tête.
+ * <p>
+ * Usage : {@code AssetPacker <dossier ressources> <archive.pak>}
+ */
+public final class AssetPacker {
+
+    private AssetPacker() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: AssetPacker <dossier ressources> <archive.pak>");
+            System.exit(2);
+        }
+        Path root = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(root)) {
+            walk.filter(Files::isRegularFile).sorted().forEach(files::add);
+        }
+
+        // ✅ Table au plus à moitié pleine : sondages courts
+        int slotCount = Integer.highestOneBit(Math.max(1, files.size() * 2 - 1)) << 1;
+        int mask = slotCount - 1;
+        long[] slotHash = new long[slotCount];
+        long[] slotOffset = new long[slotCount];
+        int[] slotLength = new int[slotCount];
+
+        Map<Long, String> names = new HashMap<>();
+        long offset = align(AssetArchive.HEADER_BYTES + (long) slotCount * AssetArchive.SLOT_BYTES);
+        long dataStart = offset;
+        for (Path file : files) {
+            String name = root.relativize(file).toString().replace('\\', '/');
+            long hash = AssetArchive.hash(name);
+            String previous = names.putIfAbsent(hash, name);
+            if (previous != null) {
+                throw new IOException("Collision de hash entre " + previous + " et " + name);
+            }
+
+            int slot = (int) hash & mask;
+            while (slotHash[slot] != 0) slot = (slot + 1) & mask;
+            slotHash[slot] = hash;
+            slotOffset[slot] = offset;
+            slotLength[slot] = Math.toIntExact(Files.size(file));
+            offset = align(offset + slotLength[slot]);
+        }
+
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer index = ByteBuffer.allocate((int) dataStart).order(ByteOrder.LITTLE_ENDIAN);
+            index.putInt(AssetArchive.MAGIC).putInt(AssetArchive.VERSION).putInt(slotCount).putInt(files.size());
+            for (int slot = 0; slot < slotCount; slot++) {
+                index.putLong(slotHash[slot]).putLong(slotOffset[slot]).putInt(slotLength[slot]).putInt(0);
+            }
+            index.clear();
+            channel.write(index);
+
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (slotHash[slot] == 0) continue;
+                ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(root.resolve(names.get(slotHash[slot]))));
+                channel.write(content, slotOffset[slot]);
+            }
+        }
+
+        System.out.printf("📦 %d fichiers empaquetés dans %s (%.1f Ko, %d cases d'index)%n",
+                files.size(), output, Files.size(output) / 1024.0, slotCount);
+    }
+
+    private static long align(long offset) {
+        return (offset + AssetArchive.ALIGNMENT - 1) & -AssetArchive.ALIGNMENT;
+    }
+}
@@ -0,0 +1,157 @@
+package Tools;
+
+import Core.World.PlatformStore;
+import Core.World.SpatialIndex;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Banc d'essai (tâche Gradle {@code benchSpatialIndex}) : "première surface sous le joueur"
+ * par parcours linéaire (sur les anciens objets Platform) contre {@link SpatialIndex} sur un
+ * {@link PlatformStore}, pour 100, 10 000 et 1 000 000 plateformes réparties comme le générateur les place.
+ * Les deux côtés répondent à la même requête (dessus le plus haut à moins de
+ * {@link #MAX_SURFACE_DISTANCE} sous le joueur) : leurs réponses sont comparées avant toute mesure.
+ * <p>
+ * Mesure simple avec préchauffage : chaque méthode tourne au moins {@link #MEASURE_NS}
+ * après {@link #WARMUP_NS} de préchauffage. Résultats en ns par requête.
+ */
+public final class SpatialIndexBenchmark {
+
+    private static final long WARMUP_NS = 1_000_000_000L;
+    private static final long MEASURE_NS = 2_000_000_000L;
+    private static final int[] SIZES = {100, 10_000, 1_000_000};
+
+    private static final Vector3f PLAYER_SIZE = new Vector3f(0.8f, 1.2f, 0.1f);
+    private static final float MAX_SURFACE_DISTANCE = 1.0f; // Comme PlatformManager
+
+    private static volatile long sink; // Empêche l'élimination des requêtes par le JIT
+
+    private SpatialIndexBenchmark() {}
+
+    public static void main(String[] args) {
+        System.out.printf("%-12s %18s %18s %10s%n", "plateformes", "scan (ns/req)", "index (ns/req)", "gain");
+        for (int count : SIZES) {
+            Random random = new Random(42);
+            List<LegacyPlatform> platforms = new ArrayList<>(count);
+            PlatformStore store = new PlatformStore(count);
+            SpatialIndex index = new SpatialIndex(2.0f, count);
+
+            float x = 0.0f;
+            for (int i = 0; i < count; i++) {
+                x += 1.5f + random.nextFloat();
+                Vector3f position = new Vector3f(x, -0.3f + random.nextFloat() * 0.6f, 0.0f);
+                Vector3f size = new Vector3f(1.0f + random.nextFloat() * 0.8f, 0.2f + random.nextFloat() * 0.1f, 0.1f);
+                platforms.add(new LegacyPlatform(position, size));
+                int slot = store.add(position.x, position.y, size.x, size.y, 0, 0);
+                index.insert(slot, store.getLeft(slot), store.getBottom(slot), store.getRight(slot), store.getTop(slot));
+            }
+
+            // Positions de requête précalculées : le tirage n'entre pas dans la mesure
+            float[] queryX = new float[4096];
+            float[] queryY = new float[4096];
+            for (int i = 0; i < queryX.length; i++) {
+                queryX[i] = random.nextFloat() * x;
+                queryY[i] = 0.2f + random.nextFloat() * 0.8f;
+            }
+
+            // ✅ Même réponse des deux côtés, sinon la comparaison des temps n'a pas de sens
+            for (int i = 0; i < queryX.length; i++) {
+                LegacyPlatform expected = scanSurfaceBelow(platforms, queryX[i], queryY[i]);
+                int found = indexedSurfaceBelow(index, queryX[i], queryY[i]);
+                boolean agree = expected == null
+                        ? found == SpatialIndex.NONE
+                        : found != SpatialIndex.NONE && store.getTop(found) == expected.getTop();
+                if (!agree) {
+                    throw new IllegalStateException(String.format(
+                            "❌ Parcours et index divergent (%d plateformes, requête x=%.3f y=%.3f)", count, queryX[i], queryY[i]));
+                }
+            }
+
+            double scan = measure(i -> scanSurfaceBelow(platforms, queryX[i], queryY[i]) != null ? 1 : 0, queryX.length);
+            double indexed = measure(i -> indexedSurfaceBelow(index, queryX[i], queryY[i]), queryX.length);
+            System.out.printf("%-12d %18.1f %18.1f %9.0fx%n", count, scan, indexed, scan / indexed);
+        }
+    }
+
+    private interface Query {
+        int run(int i);
+    }
+
+    private static double measure(Query query, int queryCount) {
+        long sum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; System.nanoTime() - start < WARMUP_NS; i = (i + 1) % queryCount) {
+            sum += query.run(i);
+        }
+
+        long queries = 0;
+        start = System.nanoTime();
+        long elapsed;
+        do {
+            for (int i = 0; i < 64; i++) {
+                sum += query.run((int) (queries++ % queryCount));
+            }
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MEASURE_NS);
+
+        sink += sum;
+        return (double) elapsed / queries;
+    }
+
+    // Ancienne classe Platform : vecteurs derrière un verrou, copiés à chaque lecture
+    private static final class LegacyPlatform {
+        private final Vector3f position;
+        private final Vector3f size;
+        private final Object platformLock = new Object();
+
+        LegacyPlatform(Vector3f position, Vector3f size) {
+            this.position = new Vector3f(position);
+            this.size = new Vector3f(size);
+        }
+
+        Vector3f getPosition() {
+            synchronized (platformLock) {
+                return new Vector3f(position);
+            }
+        }
+
+        Vector3f getSize() {
+            synchronized (platformLock) {
+                return new Vector3f(size);
+            }
+        }
+
+        float getTop() {
+            synchronized (platformLock) {
+                return position.y + size.y / 2;
+            }
+        }
+    }
+
+    // Parcours de toutes les plateformes, avec le critère de SpatialIndex.firstSurfaceBelow :
+    // dessus sous le joueur, à moins de MAX_SURFACE_DISTANCE, le plus haut l'emporte
+    private static LegacyPlatform scanSurfaceBelow(List<LegacyPlatform> platforms, float playerX, float playerY) {
+        float x0 = playerX - PLAYER_SIZE.x / 2;
+        float x1 = playerX + PLAYER_SIZE.x / 2;
+        LegacyPlatform best = null;
+        float bestTop = -Float.MAX_VALUE;
+        for (LegacyPlatform platform : platforms) {
+            Vector3f platPos = platform.getPosition();
+            Vector3f platSize = platform.getSize();
+            float top = platPos.y + platSize.y / 2;
+            boolean horizontallyAligned = platPos.x + platSize.x / 2 > x0 && platPos.x - platSize.x / 2 < x1;
+            if (horizontallyAligned && top <= playerY && playerY - top < MAX_SURFACE_DISTANCE && top > bestTop) {
+                best = platform;
+                bestTop = top;
+            }
+        }
+        return best;
+    }
+
+    private static int indexedSurfaceBelow(SpatialIndex index, float playerX, float playerY) {
+        return index.firstSurfaceBelow(playerX - PLAYER_SIZE.x / 2, playerX + PLAYER_SIZE.x / 2, playerY, MAX_SURFACE_DISTANCE);
+    }
+}
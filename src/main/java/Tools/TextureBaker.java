@@ -0,0 +1,197 @@
+package Tools;
+
+import Core.KtxImage;
+import org.lwjgl.PointerBuffer;
+import org.lwjgl.stb.STBImage;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+import org.lwjgl.util.ktx.ktxBasisParams;
+import org.lwjgl.util.ktx.ktxTexture;
+import org.lwjgl.util.ktx.ktxTexture2;
+import org.lwjgl.util.ktx.ktxTextureCreateInfo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.lwjgl.util.ktx.KTX.*;
+
+/**
+ * Outil hors jeu (tâche Gradle {@code bakeTextures}) : convertit chaque PNG d'un dossier
+ * en KTX2 avec toute la chaîne de mipmaps précalculée, et éventuellement une compression
+ * Basis (UASTC ou ETC1S) transcodée au chargement vers le format du GPU.
+ * <p>
+ * Usage : {@code TextureBaker <dossier PNG> <dossier sortie> [--compress=none|uastc|etc1s]}
+ */
+public final class TextureBaker {
+
+    private static final int VK_FORMAT_R8G8B8A8_UNORM = 37;
+    private static final int ZSTD_LEVEL = 18;
+
+    private enum Compression { NONE, UASTC, ETC1S }
+
+    private TextureBaker() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: TextureBaker <dossier PNG> <dossier sortie> [--compress=none|uastc|etc1s]");
+            System.exit(2);
+        }
+        Path input = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+        Compression compression = Compression.UASTC;
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].startsWith("--compress=")) {
+                compression = Compression.valueOf(args[i].substring("--compress=".length()).toUpperCase());
+            }
+        }
+
+        Files.createDirectories(output);
+        int baked = 0, failed = 0;
+        long pngBytes = 0, ktxBytes = 0;
+        try (DirectoryStream<Path> pngs = Files.newDirectoryStream(input, "*.png")) {
+            for (Path png : pngs) {
+                String name = png.getFileName().toString();
+                Path ktx = output.resolve(name.substring(0, name.length() - 4) + KtxImage.EXTENSION);
+                try {
+                    bake(png, ktx, compression);
+                    pngBytes += Files.size(png);
+                    ktxBytes += Files.size(ktx);
+                    baked++;
+                    System.out.printf("✅ %s -> %s%n", png, ktx.getFileName());
+                } catch (Exception e) {
+                    failed++;
+                    System.err.printf("❌ %s : %s%n", png, e.getMessage());
+                }
+            }
+        }
+
+        System.out.printf("📦 %d textures converties (%s), %d échecs, %.1f Ko PNG -> %.1f Ko KTX2%n",
+                baked, compression.name().toLowerCase(), failed, pngBytes / 1024.0, ktxBytes / 1024.0);
+        if (failed > 0) System.exit(1);
+    }
+
+    private static void bake(Path png, Path ktx, Compression compression) throws Exception {
+        ByteBuffer base;
+        int width, height;
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer w = stack.mallocInt(1);
+            IntBuffer h = stack.mallocInt(1);
+            IntBuffer comp = stack.mallocInt(1);
+            base = STBImage.stbi_load(png.toString(), w, h, comp, 4);
+            if (base == null) {
+                throw new Exception("PNG illisible " + STBImage.stbi_failure_reason());
+            }
+            width = w.get(0);
+            height = h.get(0);
+        }
+
+        int levels = 32 - Integer.numberOfLeadingZeros(Math.max(width, height));
+        ktxTexture2 texture = create(width, height, levels);
+        ktxTexture baseTexture = ktxTexture.create(texture.address());
+        try {
+            // ✅ Niveau 0 = le PNG, puis chaque niveau réduit de moitié depuis le précédent
+            ByteBuffer level = base;
+            int levelWidth = width, levelHeight = height;
+            for (int i = 0; i < levels; i++) {
+                check(ktxTexture_SetImageFromMemory(baseTexture, i, 0, 0, level), "niveau " + i);
+                if (i + 1 == levels) break;
+
+                int nextWidth = Math.max(1, levelWidth / 2);
+                int nextHeight = Math.max(1, levelHeight / 2);
+                ByteBuffer next = downsample(level, levelWidth, levelHeight, nextWidth, nextHeight);
+                if (level != base) MemoryUtil.memFree(level);
+                level = next;
+                levelWidth = nextWidth;
+                levelHeight = nextHeight;
+            }
+            if (level != base) MemoryUtil.memFree(level);
+
+            switch (compression) {
+                case UASTC -> {
+                    compressBasis(texture, true);
+                    check(ktxTexture2_DeflateZstd(texture, ZSTD_LEVEL), "zstd");
+                }
+                case ETC1S -> compressBasis(texture, false);
+                case NONE -> check(ktxTexture2_DeflateZstd(texture, ZSTD_LEVEL), "zstd");
+            }
+
+            check(ktxWriteToNamedFile(baseTexture, ktx.toString()), "écriture");
+        } finally {
+            ktxTexture_Destroy(baseTexture);
+            STBImage.stbi_image_free(base);
+        }
+    }
+
+    private static ktxTexture2 create(int width, int height, int levels) throws Exception {
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            ktxTextureCreateInfo info = ktxTextureCreateInfo.calloc(stack)
+                    .vkFormat(VK_FORMAT_R8G8B8A8_UNORM)
+                    .baseWidth(width)
+                    .baseHeight(height)
+                    .baseDepth(1)
+                    .numDimensions(2)
+                    .numLevels(levels)
+                    .numLayers(1)
+                    .numFaces(1)
+                    .isArray(false)
+                    .generateMipmaps(false);
+            PointerBuffer out = stack.mallocPointer(1);
+            check(ktxTexture2_Create(info, KTX_TEXTURE_CREATE_ALLOC_STORAGE, out), "création");
+            return ktxTexture2.create(out.get(0));
+        }
+    }
+
+    private static void compressBasis(ktxTexture2 texture, boolean uastc) throws Exception {
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            ktxBasisParams params = ktxBasisParams.calloc(stack)
+                    .structSize(ktxBasisParams.SIZEOF)
+                    .uastc(uastc)
+                    .threadCount(Runtime.getRuntime().availableProcessors())
+                    .qualityLevel(128);
+            check(ktxTexture2_CompressBasisEx(texture, params), uastc ? "UASTC" : "ETC1S");
+        }
+    }
+
+    // ✅ Réduction par moyenne des pixels source couverts, couleur pondérée par l'alpha (pas de franges sombres).
+    // Bornes des blocs arrondies proportionnellement : en NPOT (5 → 2) les blocs font 2 puis 3 pixels
+    // et couvrent toute l'image source, dernière ligne et dernière colonne comprises
+    private static ByteBuffer downsample(ByteBuffer src, int srcWidth, int srcHeight, int dstWidth, int dstHeight) {
+        ByteBuffer dst = MemoryUtil.memAlloc(dstWidth * dstHeight * 4);
+        for (int y = 0; y < dstHeight; y++) {
+            int y0 = y * srcHeight / dstHeight;
+            int y1 = Math.max(y0 + 1, (y + 1) * srcHeight / dstHeight);
+            for (int x = 0; x < dstWidth; x++) {
+                int x0 = x * srcWidth / dstWidth;
+                int x1 = Math.max(x0 + 1, (x + 1) * srcWidth / dstWidth);
+                long r = 0, g = 0, b = 0, a = 0;
+                for (int sy = y0; sy < y1; sy++) {
+                    for (int sx = x0; sx < x1; sx++) {
+                        int p = (sy * srcWidth + sx) * 4;
+                        int alpha = src.get(p + 3) & 0xFF;
+                        r += (long) (src.get(p) & 0xFF) * alpha;
+                        g += (long) (src.get(p + 1) & 0xFF) * alpha;
+                        b += (long) (src.get(p + 2) & 0xFF) * alpha;
+                        a += alpha;
+                    }
+                }
+                int q = (y * dstWidth + x) * 4;
+                int samples = (x1 - x0) * (y1 - y0);
+                dst.put(q, (byte) (a > 0 ? r / a : 0));
+                dst.put(q + 1, (byte) (a > 0 ? g / a : 0));
+                dst.put(q + 2, (byte) (a > 0 ? b / a : 0));
+                dst.put(q + 3, (byte) (a / samples));
+            }
+        }
+        return dst;
+    }
+
+    private static void check(int result, String step) throws Exception {
+        if (result != KTX_SUCCESS) {
+            throw new Exception(step + " : " + ktxErrorString(result));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+#version 330 core
+
+in vec2 fragTextureCoord;
+flat in float fragLayer; // Couche de texture, tant que toutes les plateformes partagent la même image : 0
+
+out vec4 fragColor;
+
+uniform sampler2D textureSample;
+
+void main() {
+    fragColor = texture(textureSample, fragTextureCoord);
+    if (fragColor.a < 0.01) discard;
+}
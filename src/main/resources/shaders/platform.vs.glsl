@@ -0,0 +1,21 @@
+#version 330 core
+
+// Maillage statique d'un chunk : 4 sommets par plateforme, déjà en coordonnées monde
+layout (location = 0) in vec3 position;
+layout (location = 1) in vec2 textureCoord;
+layout (location = 2) in float layer;
+
+out vec2 fragTextureCoord;
+flat out float fragLayer;
+
+// Matrices caméra partagées (CameraBuffer, point de liaison 0)
+layout (std140) uniform Camera {
+    mat4 projectionMatrix;
+    mat4 viewMatrix;
+};
+
+void main() {
+    gl_Position = projectionMatrix * viewMatrix * vec4(position, 1.0);
+    fragTextureCoord = textureCoord;
+    fragLayer = layer;
+}
@@ -0,0 +1,12 @@
+#version 330 core
+
+in vec2 fragTextureCoord;
+
+out vec4 fragColor;
+
+uniform sampler2D textureSample;
+
+void main() {
+    fragColor = texture(textureSample, fragTextureCoord);
+    if (fragColor.a < 0.01) discard;
+}
@@ -0,0 +1,19 @@
+#version 330 core
+
+layout (location = 0) in vec3 position;
+layout (location = 1) in vec2 textureCoord;
+
+out vec2 fragTextureCoord;
+
+// Matrices caméra partagées (CameraBuffer, point de liaison 0)
+layout (std140) uniform Camera {
+    mat4 projectionMatrix;
+    mat4 viewMatrix;
+};
+
+uniform mat4 transformationMatrix;
+
+void main() {
+    gl_Position = projectionMatrix * viewMatrix * transformationMatrix * vec4(position, 1.0);
+    fragTextureCoord = textureCoord;
+}